@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Creates the grids measured by the benchmarks. SWT needs a display, on Linux
+ * without a screen run the benchmarks under xvfb-run. All widgets of a fork
+ * live on the benchmark thread which created the display, so benchmark states
+ * using widgets must have {@code Scope.Thread}.
+ */
+final class BenchmarkGrids {
+	/** Width of the shell holding a benchmark grid */
+	static final int SHELL_WIDTH = 1024;
+
+	/** Height of the shell holding a benchmark grid */
+	static final int SHELL_HEIGHT = 768;
+
+	/** Number of children of every root item of a tree grid */
+	static final int TREE_CHILDREN = 9;
+
+	private static Display display;
+
+	private BenchmarkGrids() {
+	}
+
+	/**
+	 * @return the display of the fork, created on first use
+	 */
+	static synchronized Display getDisplay() {
+		if (display == null || display.isDisposed()) {
+			display = new Display();
+		}
+		return display;
+	}
+
+	/**
+	 * Creates a grid with text in every cell in an open shell.
+	 *
+	 * @param style
+	 *            style of the grid
+	 * @param rows
+	 *            number of rows
+	 * @param columns
+	 *            number of columns
+	 * @param tree
+	 *            true to create root items with {@link #TREE_CHILDREN} children
+	 *            each, every second root collapsed
+	 * @return the grid
+	 */
+	static Grid createGrid(int style, int rows, int columns, boolean tree) {
+		Shell shell = new Shell(getDisplay());
+		shell.setLayout(new FillLayout());
+		Grid grid = new Grid(shell, style | SWT.V_SCROLL | SWT.H_SCROLL);
+		grid.setHeaderVisible(true);
+		for (int i = 0; i < columns; i++) {
+			GridColumn column = new GridColumn(grid, SWT.NONE);
+			column.setText("Column " + i);
+			column.setWidth(100);
+			if (tree && i == 0) {
+				column.setTree(true);
+			}
+		}
+		if (tree) {
+			GridItem root = null;
+			for (int row = 0; row < rows; row++) {
+				GridItem item;
+				if (row % (TREE_CHILDREN + 1) == 0) {
+					if (root != null) {
+						root.setExpanded((row / (TREE_CHILDREN + 1)) % 2 == 0);
+					}
+					root = new GridItem(grid, SWT.NONE);
+					item = root;
+				} else {
+					item = new GridItem(root, SWT.NONE);
+				}
+				fill(item, row, columns);
+			}
+		} else {
+			grid.setItemCount(rows);
+			for (int row = 0; row < rows; row++) {
+				fill(grid.getItem(row), row, columns);
+			}
+		}
+		shell.setSize(SHELL_WIDTH, SHELL_HEIGHT);
+		shell.open();
+		flush();
+		return grid;
+	}
+
+	/**
+	 * Sets the text of every cell of an item.
+	 *
+	 * @param item
+	 * @param row
+	 *            row number used in the texts
+	 * @param columns
+	 *            number of columns
+	 */
+	static void fill(GridItem item, int row, int columns) {
+		for (int column = 0; column < columns; column++) {
+			item.setText(column, "Row " + row + " column " + column);
+		}
+	}
+
+	/**
+	 * Dispatches all pending events, so that no paint is left for the
+	 * measurement.
+	 */
+	static void flush() {
+		Display current = getDisplay();
+		while (current.readAndDispatch()) {
+			// dispatch all
+		}
+	}
+
+	/**
+	 * Disposes the shell of the grid.
+	 *
+	 * @param grid
+	 */
+	static void dispose(Grid grid) {
+		if (grid != null && !grid.isDisposed()) {
+			grid.getShell().dispose();
+		}
+	}
+}
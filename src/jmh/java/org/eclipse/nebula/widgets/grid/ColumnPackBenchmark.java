@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sizing a column to its content with {@link GridColumn#pack()}, measuring
+ * either all rows or only the visible ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnPackBenchmark {
+	@Param({ "10000", "100000" })
+	int rows;
+
+	@Param({ "false", "true" })
+	boolean visibleLinesOnly;
+
+	private Grid grid;
+	private GridColumn column;
+
+	@Setup
+	public void setUp() {
+		grid = BenchmarkGrids.createGrid(SWT.NONE, rows, 10, false);
+		grid.setVisibleLinesColumnPack(visibleLinesOnly);
+		column = grid.getColumn(1);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkGrids.dispose(grid);
+	}
+
+	@Benchmark
+	public int pack() {
+		column.pack();
+		return column.getWidth();
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading and writing cell values of {@link GridItemDataVisualizer} and
+ * inserting and removing columns.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DataVisualizerBenchmark {
+	@Param({ "10000", "100000" })
+	int rows;
+
+	@Param({ "20" })
+	int columns;
+
+	private Grid grid;
+	private DataVisualizer visualizer;
+	private GridItem[] items;
+	private String[] texts;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		grid = BenchmarkGrids.createGrid(SWT.NONE, rows, columns, false);
+		visualizer = grid.getDataVisualizer();
+		items = grid.getItems();
+		texts = new String[64];
+		for (int i = 0; i < texts.length; i++) {
+			texts[i] = "Value " + i;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkGrids.dispose(grid);
+	}
+
+	@Benchmark
+	public String getText() {
+		int i = next++;
+		return visualizer.getText(items[i % rows], i % columns);
+	}
+
+	@Benchmark
+	public void setText() {
+		int i = next++;
+		visualizer.setText(items[i % rows], i % columns, texts[i & (texts.length - 1)]);
+	}
+
+	/**
+	 * Inserts a column before the middle one and removes it again, as done when
+	 * a column is created and disposed.
+	 */
+	@Benchmark
+	public void addAndClearColumn() {
+		int column = columns / 2;
+		visualizer.addColumn(column);
+		visualizer.clearColumn(column);
+	}
+}
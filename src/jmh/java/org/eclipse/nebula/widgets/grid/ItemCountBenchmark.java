@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Growing and shrinking a grid with {@link Grid#setItemCount(int)} and
+ * removing many items at once. Every operation takes milliseconds, so the
+ * grid is refilled before every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ItemCountBenchmark {
+	@Param({ "10000", "100000" })
+	int rows;
+
+	@Param({ "false", "true" })
+	boolean virtual;
+
+	private Grid grid;
+	private int[] everySecondRow;
+
+	@Setup
+	public void setUp() {
+		grid = BenchmarkGrids.createGrid(virtual ? SWT.VIRTUAL : SWT.NONE, 0, 10, false);
+		everySecondRow = new int[rows / 2];
+		for (int i = 0; i < everySecondRow.length; i++) {
+			everySecondRow[i] = i * 2;
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void fill() {
+		grid.setItemCount(rows);
+		grid.selectAll();
+	}
+
+	@TearDown(Level.Invocation)
+	public void clear() {
+		grid.setItemCount(0);
+		BenchmarkGrids.flush();
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkGrids.dispose(grid);
+	}
+
+	/**
+	 * Shrinks the filled grid to empty and grows it back.
+	 */
+	@Benchmark
+	public void setItemCount() {
+		grid.setItemCount(0);
+		grid.setItemCount(rows);
+	}
+
+	@Benchmark
+	public void removeRange() {
+		grid.remove(rows / 4, rows * 3 / 4 - 1);
+	}
+
+	@Benchmark
+	public void removeIndices() {
+		grid.remove(everySecondRow);
+	}
+}
@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Event;
+
+/**
+ * End-to-end paint measurement. Builds the grids of the selected
+ * {@link PaintScenario}s, scrolls through them and paints every frame into an
+ * offscreen image through the regular paint listener of the grid. Frame times,
+ * bytes allocated by the painting thread and the {@link GridPaintStats} of
+ * every frame are summarized in a JSON report, so that releases can be
+ * compared.
+ * <p>
+ * Needs an X server on Linux, a virtual one is enough:
+ *
+ * <pre>
+ * xvfb-run mvn -P jmh test-compile exec:exec@paint -Dpaint.args="--frames 500 --out paint.json"
+ * </pre>
+ *
+ * Options: {@code --scenario <id>} (repeatable, default all),
+ * {@code --frames <n>}, {@code --warmup <n>}, {@code --width <px>},
+ * {@code --height <px>}, {@code --out <file>} (default standard output).
+ */
+public class PaintHarness {
+	private final List<PaintScenario> scenarios = new ArrayList<>();
+	private int frames = 300;
+	private int warmup = 100;
+	private int width = BenchmarkGrids.SHELL_WIDTH;
+	private int height = BenchmarkGrids.SHELL_HEIGHT;
+	private String out;
+
+	private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+
+	/**
+	 * Summary of the measured frames of a scenario.
+	 */
+	private static final class Result {
+		PaintScenario scenario;
+		int rows;
+		int columns;
+		long setupMillis;
+		long[] frameNanos;
+		long[] frameBytes;
+		long layoutNanos;
+		long cellsNanos;
+		long rowHeadersNanos;
+		long headerNanos;
+		long footerNanos;
+		long paintedRows;
+		long paintedCells;
+		long rendererPaints;
+		long rendererComputeSizes;
+		long setDataCallbacks;
+		long textMeasurements;
+		long nativeTextMeasurements;
+	}
+
+	/**
+	 * @param args
+	 *            command line options
+	 * @throws IOException
+	 *             if the report cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		PaintHarness harness = new PaintHarness();
+		try {
+			harness.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			usage(System.err);
+			System.exit(2);
+		}
+		List<Result> results = new ArrayList<>();
+		for (PaintScenario scenario : harness.scenarios) {
+			System.err.println("Painting " + scenario.id());
+			results.add(harness.run(scenario));
+		}
+		String report = harness.report(results);
+		if (harness.out == null) {
+			System.out.println(report);
+		} else {
+			Files.write(Paths.get(harness.out), report.getBytes(StandardCharsets.UTF_8));
+		}
+		BenchmarkGrids.getDisplay().dispose();
+	}
+
+	private void parse(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			String option = args[i];
+			if (i + 1 == args.length) {
+				throw new IllegalArgumentException("Missing value of " + option);
+			}
+			String value = args[++i];
+			switch (option) {
+				case "--scenario":
+					PaintScenario scenario = PaintScenario.find(value);
+					if (scenario == null) {
+						throw new IllegalArgumentException("Unknown scenario " + value);
+					}
+					scenarios.add(scenario);
+					break;
+				case "--frames":
+					frames = Integer.parseInt(value);
+					break;
+				case "--warmup":
+					warmup = Integer.parseInt(value);
+					break;
+				case "--width":
+					width = Integer.parseInt(value);
+					break;
+				case "--height":
+					height = Integer.parseInt(value);
+					break;
+				case "--out":
+					out = value;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + option);
+			}
+		}
+		if (scenarios.isEmpty()) {
+			scenarios.addAll(Arrays.asList(PaintScenario.values()));
+		}
+	}
+
+	/**
+	 * Builds, scrolls and paints the grid of a scenario.
+	 */
+	private Result run(PaintScenario scenario) {
+		Result result = new Result();
+		result.scenario = scenario;
+		long setupStart = System.nanoTime();
+		Grid grid = scenario.create(width, height);
+		result.setupMillis = (System.nanoTime() - setupStart) / 1000000;
+		result.rows = grid.getItemCount();
+		result.columns = grid.getColumnCount();
+		result.frameNanos = new long[frames];
+		result.frameBytes = new long[frames];
+
+		ScrollSequence scroll = new ScrollSequence(grid);
+		Rectangle area = grid.getClientArea();
+		Image image = new Image(grid.getDisplay(), area.width, area.height);
+		GC gc = new GC(image);
+		GridPaintStats[] last = new GridPaintStats[1];
+		GridPaintStatsListener listener = stats -> last[0] = stats;
+		grid.addPaintStatsListener(listener);
+		try {
+			for (int frame = -warmup; frame < frames; frame++) {
+				scroll.step(frame + warmup);
+
+				Event event = new Event();
+				event.gc = gc;
+				event.x = 0;
+				event.y = 0;
+				event.width = area.width;
+				event.height = area.height;
+				long threadId = Thread.currentThread().getId();
+				long bytes = threads.getThreadAllocatedBytes(threadId);
+				long start = System.nanoTime();
+				grid.notifyListeners(SWT.Paint, event);
+				long nanos = System.nanoTime() - start;
+				bytes = threads.getThreadAllocatedBytes(threadId) - bytes;
+
+				if (frame >= 0) {
+					result.frameNanos[frame] = nanos;
+					result.frameBytes[frame] = bytes;
+					add(result, last[0]);
+				}
+			}
+		} finally {
+			grid.removePaintStatsListener(listener);
+			gc.dispose();
+			image.dispose();
+			BenchmarkGrids.dispose(grid);
+		}
+		return result;
+	}
+
+	private static void add(Result result, GridPaintStats stats) {
+		if (stats == null) {
+			return;
+		}
+		result.layoutNanos += stats.getLayoutNanos();
+		result.cellsNanos += stats.getCellsNanos();
+		result.rowHeadersNanos += stats.getRowHeadersNanos();
+		result.headerNanos += stats.getHeaderNanos();
+		result.footerNanos += stats.getFooterNanos();
+		result.paintedRows += stats.getRows();
+		result.paintedCells += stats.getCells();
+		result.rendererPaints += stats.getRendererPaints();
+		result.rendererComputeSizes += stats.getRendererComputeSizes();
+		result.setDataCallbacks += stats.getSetDataCallbacks();
+		result.textMeasurements += stats.getTextMeasurements();
+		result.nativeTextMeasurements += stats.getNativeTextMeasurements();
+	}
+
+	/**
+	 * Scrolls line by line, page by page, to pseudo random rows and to
+	 * pseudo random columns, switching the pattern every 50 frames.
+	 */
+	private static final class ScrollSequence {
+		private final Grid grid;
+		private final int[] visibleRows;
+		private long seed = 42;
+
+		ScrollSequence(Grid grid) {
+			this.grid = grid;
+			GridItem[] items = grid.getItems();
+			int[] rows = new int[items.length];
+			int count = 0;
+			for (int i = 0; i < items.length; i++) {
+				if (items[i].isVisible()) {
+					rows[count++] = i;
+				}
+			}
+			visibleRows = Arrays.copyOf(rows, count);
+		}
+
+		void step(int frame) {
+			if (visibleRows.length == 0) {
+				return;
+			}
+			int top = Math.max(Arrays.binarySearch(visibleRows, grid.getTopIndex()), 0);
+			switch (frame / 50 % 4) {
+				case 0:
+					top++;
+					break;
+				case 1:
+					top += Math.max(grid.getVisibleGridHeight() / grid.getItemHeight(), 1);
+					break;
+				case 2:
+					top = random(visibleRows.length);
+					break;
+				default:
+					grid.showColumn(grid.getColumn(random(grid.getColumnCount())));
+					break;
+			}
+			grid.setTopIndex(visibleRows[top % visibleRows.length]);
+		}
+
+		private int random(int bound) {
+			seed = seed * 6364136223846793005L + 1442695040888963407L;
+			return (int) ((seed >>> 33) % bound);
+		}
+	}
+
+	private String report(List<Result> results) {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		json.append("  \"java\": \"").append(System.getProperty("java.version")).append("\",\n");
+		json.append("  \"os\": \"").append(System.getProperty("os.name")).append(' ')
+				.append(System.getProperty("os.arch")).append("\",\n");
+		json.append("  \"swt\": \"").append(SWT.getPlatform()).append(' ').append(SWT.getVersion())
+				.append("\",\n");
+		json.append("  \"width\": ").append(width).append(",\n");
+		json.append("  \"height\": ").append(height).append(",\n");
+		json.append("  \"warmupFrames\": ").append(warmup).append(",\n");
+		json.append("  \"scenarios\": [");
+		for (int i = 0; i < results.size(); i++) {
+			Result result = results.get(i);
+			int count = Math.max(result.frameNanos.length, 1);
+			json.append(i == 0 ? "\n" : ",\n");
+			json.append("    {\n");
+			field(json, "name", '"' + result.scenario.id() + '"');
+			field(json, "rows", result.rows);
+			field(json, "columns", result.columns);
+			field(json, "setupMillis", result.setupMillis);
+			field(json, "frames", result.frameNanos.length);
+			long[] micros = Arrays.stream(result.frameNanos).map(n -> n / 1000).sorted().toArray();
+			field(json, "frameMicros", "{ \"mean\": " + mean(micros) + ", \"p50\": " + percentile(micros, 50)
+					+ ", \"p90\": " + percentile(micros, 90) + ", \"p99\": " + percentile(micros, 99)
+					+ ", \"max\": " + percentile(micros, 100) + " }");
+			long[] bytes = result.frameBytes.clone();
+			Arrays.sort(bytes);
+			field(json, "allocatedBytesPerFrame", "{ \"mean\": " + mean(bytes) + ", \"p50\": "
+					+ percentile(bytes, 50) + ", \"max\": " + percentile(bytes, 100) + " }");
+			field(json, "phaseMicrosPerFrame",
+					"{ \"layout\": " + result.layoutNanos / 1000 / count + ", \"cells\": "
+							+ result.cellsNanos / 1000 / count + ", \"rowHeaders\": "
+							+ result.rowHeadersNanos / 1000 / count + ", \"header\": "
+							+ result.headerNanos / 1000 / count + ", \"footer\": "
+							+ result.footerNanos / 1000 / count + " }");
+			field(json, "rowsPerFrame", result.paintedRows / count);
+			field(json, "cellsPerFrame", result.paintedCells / count);
+			field(json, "rendererPaintsPerFrame", result.rendererPaints / count);
+			field(json, "rendererComputeSizesPerFrame", result.rendererComputeSizes / count);
+			field(json, "setDataCallbacksPerFrame", format(result.setDataCallbacks / (double) count));
+			field(json, "textMeasurementsPerFrame", result.textMeasurements / count);
+			json.append("      \"nativeTextMeasurementsPerFrame\": ")
+					.append(format(result.nativeTextMeasurements / (double) count)).append('\n');
+			json.append("    }");
+		}
+		json.append("\n  ]\n}");
+		return json.toString();
+	}
+
+	private static void field(StringBuilder json, String name, Object value) {
+		json.append("      \"").append(name).append("\": ").append(value).append(",\n");
+	}
+
+	private static long mean(long[] values) {
+		return values.length == 0 ? 0 : Arrays.stream(values).sum() / values.length;
+	}
+
+	/**
+	 * @param sorted
+	 *            values in ascending order
+	 */
+	private static long percentile(long[] sorted, int percent) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+		return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+	/**
+	 * Prints the usage of the harness.
+	 *
+	 * @param stream
+	 */
+	static void usage(PrintStream stream) {
+		stream.println("PaintHarness [--scenario id]... [--frames n] [--warmup n] [--width px] [--height px]"
+				+ " [--out file]");
+		for (PaintScenario scenario : PaintScenario.values()) {
+			stream.println("  scenario " + scenario.id());
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Grid shapes painted by {@link PaintHarness}.
+ */
+enum PaintScenario {
+	/**
+	 * Virtual grid with one million rows and 50 columns, texts are provided on
+	 * SWT.SetData.
+	 */
+	FLAT_1M("flat-1m") {
+		@Override
+		void populate(Grid grid) {
+			addColumns(grid, 50, false);
+			grid.addListener(SWT.SetData, e -> fill((GridItem) e.item, e.index, grid.getColumnCount()));
+			grid.setItemCount(1000000);
+		}
+
+		@Override
+		int style() {
+			return SWT.VIRTUAL;
+		}
+	},
+
+	/**
+	 * Fully expanded tree ten levels deep, every item has two children.
+	 */
+	TREE_10("tree-10") {
+		@Override
+		void populate(Grid grid) {
+			addColumns(grid, 10, false);
+			grid.getColumn(0).setTree(true);
+			grid.getColumn(0).setWidth(300);
+			int[] counter = new int[1];
+			for (int i = 0; i < 20; i++) {
+				GridItem root = new GridItem(grid, SWT.NONE);
+				fill(root, counter[0]++, grid.getColumnCount());
+				addChildren(root, 1, counter, grid.getColumnCount());
+			}
+		}
+
+		private void addChildren(GridItem parent, int level, int[] counter, int columns) {
+			if (level == 10) {
+				return;
+			}
+			for (int i = 0; i < 2; i++) {
+				GridItem child = new GridItem(parent, SWT.NONE);
+				fill(child, counter[0]++, columns);
+				addChildren(child, level + 1, counter, columns);
+			}
+			parent.setExpanded(true);
+		}
+	},
+
+	/**
+	 * 100000 rows with column spans in every fourth row and row spans in every
+	 * tenth row.
+	 */
+	SPANS("spans") {
+		@Override
+		void populate(Grid grid) {
+			addColumns(grid, 20, false);
+			grid.setItemCount(100000);
+			for (int row = 0; row < 100000; row++) {
+				GridItem item = grid.getItem(row);
+				fill(item, row, 20);
+				if (row % 4 == 0) {
+					item.setColumnSpan(2, 3);
+				}
+				if (row % 10 == 0) {
+					item.setRowSpan(8, 4);
+				}
+			}
+		}
+	},
+
+	/**
+	 * 100000 rows of word wrapped text of varying length with automatic row
+	 * heights.
+	 */
+	WORD_WRAP("word-wrap") {
+		@Override
+		void populate(Grid grid) {
+			addColumns(grid, 10, true);
+			grid.setAutoHeight(true);
+			grid.setItemCount(100000);
+			StringBuilder text = new StringBuilder();
+			for (int row = 0; row < 100000; row++) {
+				GridItem item = grid.getItem(row);
+				fill(item, row, 10);
+				text.setLength(0);
+				for (int word = 0; word < row % 12 + 1; word++) {
+					text.append("message ").append(word).append(' ');
+				}
+				item.setText(1, text.toString());
+				item.setText(4, text.toString());
+			}
+		}
+	},
+
+	/**
+	 * 100000 rows with cell selection, a selected block, a selected column and
+	 * scattered selected cells.
+	 */
+	CELL_SELECTION("cell-selection") {
+		@Override
+		void populate(Grid grid) {
+			addColumns(grid, 20, false);
+			grid.setCellSelectionEnabled(true);
+			grid.setItemCount(100000);
+			for (int row = 0; row < 100000; row++) {
+				fill(grid.getItem(row), row, 20);
+			}
+			List<Point> cells = new ArrayList<>();
+			for (int row = 0; row < 100000; row += 2) {
+				cells.add(new Point(row % 20, row));
+				if (row < 20000) {
+					for (int column = 5; column < 10; column++) {
+						cells.add(new Point(column, row));
+					}
+				}
+			}
+			grid.setCellSelection(cells.toArray(new Point[cells.size()]));
+			grid.selectColumn(12);
+		}
+	};
+
+	private final String id;
+
+	PaintScenario(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return name of the scenario in the report and on the command line
+	 */
+	String id() {
+		return id;
+	}
+
+	/**
+	 * @return style of the grid
+	 */
+	int style() {
+		return SWT.NONE;
+	}
+
+	/**
+	 * Adds the columns and items of the scenario.
+	 *
+	 * @param grid
+	 */
+	abstract void populate(Grid grid);
+
+	/**
+	 * Creates the grid of the scenario in a shell of the given size.
+	 *
+	 * @param width
+	 * @param height
+	 * @return the grid
+	 */
+	Grid create(int width, int height) {
+		Shell shell = new Shell(BenchmarkGrids.getDisplay());
+		shell.setLayout(new FillLayout());
+		Grid grid = new Grid(shell, style() | SWT.V_SCROLL | SWT.H_SCROLL | SWT.MULTI);
+		grid.setHeaderVisible(true);
+		grid.setFooterVisible(true);
+		grid.setRowHeaderVisible(true);
+		populate(grid);
+		shell.setSize(width, height);
+		shell.open();
+		BenchmarkGrids.flush();
+		return grid;
+	}
+
+	/**
+	 * @param id
+	 * @return the scenario with the given name or null
+	 */
+	static PaintScenario find(String id) {
+		for (PaintScenario scenario : values()) {
+			if (scenario.id.equals(id)) {
+				return scenario;
+			}
+		}
+		return null;
+	}
+
+	private static void addColumns(Grid grid, int count, boolean wordWrap) {
+		for (int i = 0; i < count; i++) {
+			GridColumn column = new GridColumn(grid, SWT.NONE);
+			column.setText("Column " + i);
+			column.setFooterText("Total " + i);
+			column.setWidth(wordWrap && (i == 1 || i == 4) ? 220 : 100);
+			column.setWordWrap(wordWrap);
+		}
+	}
+
+	private static void fill(GridItem item, int row, int columns) {
+		BenchmarkGrids.fill(item, row, columns);
+	}
+}
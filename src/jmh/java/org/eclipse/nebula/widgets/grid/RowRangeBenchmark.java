@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finding the visible row range after scrolling, on flat grids and on trees
+ * with collapsed items.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RowRangeBenchmark {
+	@Param({ "flat", "tree" })
+	String shape;
+
+	@Param({ "100000" })
+	int rows;
+
+	@Param({ "false", "true" })
+	boolean pixelScrolling;
+
+	private Grid grid;
+	private int[] visibleRows;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		grid = BenchmarkGrids.createGrid(SWT.NONE, rows, 10, "tree".equals(shape));
+		grid.setPixelScrolling(pixelScrolling);
+		BenchmarkGrids.flush();
+
+		int count = 0;
+		int[] indexes = new int[rows];
+		for (int row = 0; row < rows; row++) {
+			if (grid.getItem(row).isVisible()) {
+				indexes[count++] = row;
+			}
+		}
+		// scroll targets spread over the whole grid in a fixed pseudo random order
+		visibleRows = new int[1024];
+		long seed = 42;
+		for (int i = 0; i < visibleRows.length; i++) {
+			seed = seed * 6364136223846793005L + 1442695040888963407L;
+			visibleRows[i] = indexes[(int) ((seed >>> 33) % count)];
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkGrids.dispose(grid);
+	}
+
+	@Benchmark
+	public int getTopIndex() {
+		grid.setTopIndex(visibleRows[next++ & (visibleRows.length - 1)]);
+		return grid.getTopIndex();
+	}
+
+	@Benchmark
+	public int getBottomIndex() {
+		grid.setTopIndex(visibleRows[next++ & (visibleRows.length - 1)]);
+		return grid.getBottomIndex();
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Row and cell selection of large grids. The selection models are measured
+ * directly, so no display is needed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SelectionBenchmark {
+	@Param({ "100000", "1000000" })
+	int rows;
+
+	@Param({ "20" })
+	int columns;
+
+	private RowSelection rowSelection;
+	private CellSelection cellSelection;
+	private BitSet allColumns;
+	private int next;
+
+	/**
+	 * Selects every third row and a column of cells in every third row, the
+	 * result of ctrl-clicking through a large grid.
+	 */
+	@Setup
+	public void setUp() {
+		rowSelection = new RowSelection();
+		cellSelection = new CellSelection();
+		for (int row = 0; row < rows; row += 3) {
+			rowSelection.add(row);
+			cellSelection.add(row % columns, row);
+		}
+		allColumns = new BitSet();
+		allColumns.set(0, columns);
+	}
+
+	@Benchmark
+	public boolean rowContains() {
+		return rowSelection.contains(next++ % rows);
+	}
+
+	@Benchmark
+	public int rowSelectAllAndClear() {
+		RowSelection selection = new RowSelection();
+		selection.add(0, rows);
+		int size = selection.size();
+		selection.clear();
+		return size;
+	}
+
+	/**
+	 * Inserts a row in the middle of the grid and deletes it again.
+	 */
+	@Benchmark
+	public void rowInsertAndDelete() {
+		int row = rows / 2;
+		rowSelection.insert(row);
+		rowSelection.delete(row);
+	}
+
+	@Benchmark
+	public int[] rowToArray() {
+		return rowSelection.toArray();
+	}
+
+	@Benchmark
+	public boolean cellContains() {
+		int i = next++;
+		return cellSelection.contains(i % columns, i % rows);
+	}
+
+	@Benchmark
+	public int cellSelectAllAndClear() {
+		CellSelection selection = new CellSelection();
+		selection.add(0, rows, allColumns);
+		int size = selection.size();
+		selection.clear();
+		return size;
+	}
+
+	@Benchmark
+	public void cellInsertAndDeleteRow() {
+		int row = rows / 2;
+		cellSelection.insertRow(row);
+		cellSelection.deleteRow(row);
+	}
+}
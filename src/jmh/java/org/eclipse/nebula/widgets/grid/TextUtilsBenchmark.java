@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.grid.internal.TextMetricsCache;
+import org.eclipse.nebula.widgets.grid.internal.TextUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shortening cell texts with {@link TextUtils#getShortStr(GC, String, int, int)}
+ * as done by the renderers on every paint, with texts repeated across frames
+ * (served by the shared cache) and with texts seen once (always measured).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TextUtilsBenchmark {
+	@Param({ "80", "200" })
+	int width;
+
+	@Param({ "128" })
+	int distinctTexts;
+
+	private Image image;
+	private GC gc;
+	private TextMetricsCache uncached;
+	private String[] texts;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		image = new Image(BenchmarkGrids.getDisplay(), 16, 16);
+		gc = new GC(image);
+		uncached = new TextMetricsCache(1);
+		texts = new String[distinctTexts];
+		for (int i = 0; i < texts.length; i++) {
+			texts[i] = "Interface " + i + " of node core-switch-" + (i * 7919 % 1000) + ".example.com";
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		gc.dispose();
+		image.dispose();
+	}
+
+	@Benchmark
+	public String getShortStr() {
+		return TextUtils.getShortStr(gc, texts[next++ % texts.length], width, SWT.CENTER);
+	}
+
+	@Benchmark
+	public String getShortStrUncached() {
+		return uncached.getShortStr(gc, texts[next++ % texts.length], width, SWT.CENTER);
+	}
+}
@@ -0,0 +1,523 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * Set of selected cells, stored as blocks of consecutive rows which share the
+ * same set of selected column indexes. A rectangular selection (e.g. a whole
+ * column) is a single block, no matter how many rows it covers.
+ * <p>
+ * Blocks are kept sorted by row, never overlap, never have an empty column set
+ * and adjacent blocks with equal column sets are merged. Testing a cell is
+ * O(log blocks), shifting rows or columns is O(blocks).
+ */
+class CellSelection {
+	private static final class Block {
+		int start;
+		int end;
+		BitSet columns;
+
+		Block(int start, int end, BitSet columns) {
+			this.start = start;
+			this.end = end;
+			this.columns = columns;
+		}
+	}
+
+	private final List<Block> blocks = new ArrayList<>();
+
+	/**
+	 * @param column
+	 * @param row
+	 * @return true if the cell is selected
+	 */
+	boolean contains(int column, int row) {
+		int i = find(row);
+		return i >= 0 && column >= 0 && blocks.get(i).columns.get(column);
+	}
+
+	/**
+	 * @param row
+	 * @return true if at least one cell of the row is selected
+	 */
+	boolean containsRow(int row) {
+		return find(row) >= 0;
+	}
+
+	/**
+	 * Selects a single cell.
+	 *
+	 * @param column
+	 * @param row
+	 * @return true if the cell was not selected before
+	 */
+	boolean add(int column, int row) {
+		if (column < 0 || row < 0 || contains(column, row)) {
+			return false;
+		}
+		BitSet columns = new BitSet();
+		columns.set(column);
+		add(row, row + 1, columns);
+		return true;
+	}
+
+	/**
+	 * Selects the given columns in all rows of the given range.
+	 *
+	 * @param start
+	 *            first row
+	 * @param end
+	 *            row after the last row
+	 * @param columns
+	 *            column indexes
+	 */
+	void add(int start, int end, BitSet columns) {
+		if (start >= end || columns.isEmpty()) {
+			return;
+		}
+		split(start);
+		split(end);
+
+		int first = lowerBound(start);
+		int i = first;
+		int row = start;
+		while (row < end) {
+			if (i < blocks.size() && blocks.get(i).start == row) {
+				Block block = blocks.get(i++);
+				block.columns.or(columns);
+				row = block.end;
+			} else {
+				int gapEnd = i < blocks.size() ? Math.min(blocks.get(i).start, end) : end;
+				blocks.add(i++, new Block(row, gapEnd, (BitSet) columns.clone()));
+				row = gapEnd;
+			}
+		}
+		normalize(first - 1, i);
+	}
+
+	/**
+	 * Deselects a single cell.
+	 *
+	 * @param column
+	 * @param row
+	 * @return true if the cell was selected before
+	 */
+	boolean remove(int column, int row) {
+		if (!contains(column, row)) {
+			return false;
+		}
+		BitSet columns = new BitSet();
+		columns.set(column);
+		remove(row, row + 1, columns);
+		return true;
+	}
+
+	/**
+	 * Deselects the given columns in all rows of the given range.
+	 *
+	 * @param start
+	 *            first row
+	 * @param end
+	 *            row after the last row
+	 * @param columns
+	 *            column indexes
+	 */
+	void remove(int start, int end, BitSet columns) {
+		if (start >= end || blocks.isEmpty()) {
+			return;
+		}
+		split(start);
+		split(end);
+
+		int first = lowerBound(start);
+		int i = first;
+		while (i < blocks.size() && blocks.get(i).start < end) {
+			blocks.get(i++).columns.andNot(columns);
+		}
+		normalize(first - 1, i);
+	}
+
+	/**
+	 * Adds all cells of the given selection.
+	 *
+	 * @param other
+	 */
+	void addAll(CellSelection other) {
+		for (Block block : other.blocks) {
+			add(block.start, block.end, block.columns);
+		}
+	}
+
+	/**
+	 * Deselects all cells of the given selection.
+	 *
+	 * @param other
+	 */
+	void removeAll(CellSelection other) {
+		for (Block block : other.blocks) {
+			remove(block.start, block.end, block.columns);
+		}
+	}
+
+	/**
+	 * @param other
+	 * @return true if all cells of the given selection are selected
+	 */
+	boolean containsAll(CellSelection other) {
+		for (Block block : other.blocks) {
+			int row = block.start;
+			while (row < block.end) {
+				int i = find(row);
+				if (i < 0) {
+					return false;
+				}
+				Block own = blocks.get(i);
+				BitSet missing = (BitSet) block.columns.clone();
+				missing.andNot(own.columns);
+				if (!missing.isEmpty()) {
+					return false;
+				}
+				row = own.end;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param other
+	 * @return true if both selections contain the same cells
+	 */
+	boolean sameCells(CellSelection other) {
+		// blocks are normalized, so equal selections have equal blocks
+		if (blocks.size() != other.blocks.size()) {
+			return false;
+		}
+		for (int i = 0; i < blocks.size(); i++) {
+			Block block = blocks.get(i);
+			Block otherBlock = other.blocks.get(i);
+			if (block.start != otherBlock.start || block.end != otherBlock.end
+					|| !block.columns.equals(otherBlock.columns)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Replaces the content of this selection by a copy of the given selection.
+	 *
+	 * @param other
+	 */
+	void copyFrom(CellSelection other) {
+		blocks.clear();
+		for (Block block : other.blocks) {
+			blocks.add(new Block(block.start, block.end, (BitSet) block.columns.clone()));
+		}
+	}
+
+	/**
+	 * Deselects all cells.
+	 */
+	void clear() {
+		blocks.clear();
+	}
+
+	/**
+	 * @return true if no cell is selected
+	 */
+	boolean isEmpty() {
+		return blocks.isEmpty();
+	}
+
+	/**
+	 * @return number of selected cells
+	 */
+	int size() {
+		int size = 0;
+		for (Block block : blocks) {
+			size += (block.end - block.start) * block.columns.cardinality();
+		}
+		return size;
+	}
+
+	/**
+	 * @return number of rows with at least one selected cell
+	 */
+	int rowCount() {
+		int count = 0;
+		for (Block block : blocks) {
+			count += block.end - block.start;
+		}
+		return count;
+	}
+
+	/**
+	 * @return indexes of the rows with at least one selected cell in ascending
+	 *         order
+	 */
+	int[] rows() {
+		int[] rows = new int[rowCount()];
+		int i = 0;
+		for (Block block : blocks) {
+			for (int row = block.start; row < block.end; row++) {
+				rows[i++] = row;
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * @return first selected cell in row major order or null if no cell is
+	 *         selected
+	 */
+	Point first() {
+		if (blocks.isEmpty()) {
+			return null;
+		}
+		Block block = blocks.get(0);
+		return new Point(block.columns.nextSetBit(0), block.start);
+	}
+
+	/**
+	 * @return indexes of the columns with at least one selected cell
+	 */
+	BitSet columns() {
+		BitSet columns = new BitSet();
+		for (Block block : blocks) {
+			columns.or(block.columns);
+		}
+		return columns;
+	}
+
+	/**
+	 * @return selected cells in row major order
+	 */
+	Point[] toArray() {
+		Point[] cells = new Point[size()];
+		int i = 0;
+		for (Block block : blocks) {
+			for (int row = block.start; row < block.end; row++) {
+				for (int column = block.columns.nextSetBit(0); column >= 0; column = block.columns
+						.nextSetBit(column + 1)) {
+					cells[i++] = new Point(column, row);
+				}
+			}
+		}
+		return cells;
+	}
+
+	/**
+	 * Inserts an unselected row, moving the given row and all following rows
+	 * down by one.
+	 *
+	 * @param row
+	 *            index of the inserted row
+	 */
+	void insertRow(int row) {
+		split(row);
+		for (int i = lowerBound(row); i < blocks.size(); i++) {
+			Block block = blocks.get(i);
+			block.start++;
+			block.end++;
+		}
+	}
+
+	/**
+	 * Deletes the given row, moving all following rows up by one.
+	 *
+	 * @param row
+	 *            index of the deleted row
+	 */
+	void deleteRow(int row) {
+		int first = lowerBound(row);
+		if (first > 0 && blocks.get(first - 1).end > row) {
+			first--;
+		}
+		for (int i = first; i < blocks.size(); i++) {
+			Block block = blocks.get(i);
+			if (block.start > row) {
+				block.start--;
+			}
+			block.end--;
+		}
+		if (first < blocks.size() && blocks.get(first).start == blocks.get(first).end) {
+			blocks.remove(first);
+		}
+		normalize(first - 1, first + 1);
+	}
+
+	/**
+	 * Deletes all rows marked as removed, moving the remaining rows up
+	 * accordingly.
+	 *
+	 * @param removed
+	 *            removed flag of each row
+	 */
+	void deleteRows(boolean[] removed) {
+		int[] kept = new int[removed.length + 1];
+		for (int row = 0; row < removed.length; row++) {
+			kept[row + 1] = kept[row] + (removed[row] ? 0 : 1);
+		}
+		for (Block block : blocks) {
+			block.start = kept[Math.min(block.start, removed.length)];
+			block.end = kept[Math.min(block.end, removed.length)];
+		}
+		blocks.removeIf(block -> block.start == block.end);
+		normalize(0, blocks.size());
+	}
+
+	/**
+	 * Deselects all rows with an index of at least the given count.
+	 *
+	 * @param count
+	 *            number of remaining rows
+	 */
+	void truncateRows(int count) {
+		blocks.removeIf(block -> block.start >= count);
+		if (!blocks.isEmpty()) {
+			Block last = blocks.get(blocks.size() - 1);
+			last.end = Math.min(last.end, count);
+		}
+	}
+
+	/**
+	 * Deletes the given number of rows from the top, moving the remaining rows
+	 * up accordingly.
+	 *
+	 * @param count
+	 *            number of deleted rows
+	 */
+	void deleteHeadRows(int count) {
+		if (blocks.isEmpty() || count <= 0) {
+			return;
+		}
+		for (Block block : blocks) {
+			block.start = Math.max(block.start - count, 0);
+			block.end = Math.max(block.end - count, 0);
+		}
+		blocks.removeIf(block -> block.start == block.end);
+	}
+
+	/**
+	 * Inserts an unselected column, moving the given column and all following
+	 * columns right by one.
+	 *
+	 * @param column
+	 *            index of the inserted column
+	 */
+	void insertColumn(int column) {
+		for (Block block : blocks) {
+			BitSet columns = block.columns.get(0, column);
+			for (int i = block.columns.nextSetBit(column); i >= 0; i = block.columns.nextSetBit(i + 1)) {
+				columns.set(i + 1);
+			}
+			block.columns = columns;
+		}
+	}
+
+	/**
+	 * Deletes the given column, moving all following columns left by one.
+	 *
+	 * @param column
+	 *            index of the deleted column
+	 */
+	void deleteColumn(int column) {
+		for (Block block : blocks) {
+			BitSet columns = block.columns.get(0, column);
+			for (int i = block.columns.nextSetBit(column + 1); i >= 0; i = block.columns.nextSetBit(i + 1)) {
+				columns.set(i - 1);
+			}
+			block.columns = columns;
+		}
+		normalize(0, blocks.size());
+	}
+
+	/**
+	 * @return index of the block containing the row or -(insertion point) - 1
+	 */
+	private int find(int row) {
+		int low = 0;
+		int high = blocks.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			Block block = blocks.get(mid);
+			if (block.end <= row) {
+				low = mid + 1;
+			} else if (block.start > row) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * @return index of the first block which starts at or after the row
+	 */
+	private int lowerBound(int row) {
+		int i = find(row);
+		if (i < 0) {
+			return -i - 1;
+		}
+		return blocks.get(i).start < row ? i + 1 : i;
+	}
+
+	/**
+	 * Splits the block containing the row, so that a block boundary is at the
+	 * row.
+	 */
+	private void split(int row) {
+		int i = find(row);
+		if (i >= 0) {
+			Block block = blocks.get(i);
+			if (block.start < row) {
+				blocks.add(i + 1, new Block(row, block.end, (BitSet) block.columns.clone()));
+				block.end = row;
+			}
+		}
+	}
+
+	/**
+	 * Removes empty blocks and merges adjacent blocks with equal columns in the
+	 * given range of block indexes.
+	 */
+	private void normalize(int from, int to) {
+		int i = Math.max(from, 0);
+		while (i <= to && i < blocks.size()) {
+			Block block = blocks.get(i);
+			if (block.columns.isEmpty() || block.start >= block.end) {
+				blocks.remove(i);
+				to--;
+				continue;
+			}
+			if (i > 0) {
+				Block previous = blocks.get(i - 1);
+				if (previous.end == block.start && previous.columns.equals(block.columns)) {
+					previous.end = block.end;
+					blocks.remove(i);
+					to--;
+					continue;
+				}
+			}
+			i++;
+		}
+	}
+}
@@ -0,0 +1,622 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+
+/**
+ * Implementation of {@link DataVisualizer} which keeps the cell values in dense
+ * per-column arrays instead of per-item maps.
+ * <p>
+ * Every item which receives a value is assigned a storage slot. Slots are
+ * stable across row inserts and removals and are recycled when the row is
+ * cleared, so the arrays stay dense. Texts and tooltips are held in
+ * {@code String[]}, check states in {@link BitSet}s, spans in {@code int[]},
+ * and colors, fonts and images as {@code int} ids into a shared style table.
+ * Reads on the paint path are plain array accesses without hashing or boxing.
+ * </p>
+ * <p>
+ * The entries of the style table are reference counted by the cells using
+ * them. An entry is dropped, and its id reused, as soon as no cell refers to
+ * it any more, so the table holds only the colors, fonts and images in use.
+ * Use it through
+ * {@link Grid#Grid(DataVisualizer, org.eclipse.swt.widgets.Composite, int)}.
+ * </p>
+ */
+public class ColumnarDataVisualizer implements DataVisualizer {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final List<ColumnData> columns = new ArrayList<ColumnData>();
+
+	private final List<Object> styles = new ArrayList<Object>();
+	private final Map<Object, Integer> styleIds = new IdentityHashMap<Object, Integer>();
+	/** number of cells using each style, indexed by style id - 1 */
+	private int[] styleRefs = new int[INITIAL_CAPACITY];
+	private int[] freeStyleIds = new int[INITIAL_CAPACITY];
+	private int freeStyleCount;
+
+	private GridItem[] owners = new GridItem[INITIAL_CAPACITY];
+	private int slotCount;
+	private int[] freeSlots = new int[INITIAL_CAPACITY];
+	private int freeSlotCount;
+
+	private Color defaultBackground;
+	private Color defaultForeground;
+	private Font defaultFont;
+
+	/**
+	 * Create {@link ColumnarDataVisualizer} with default value
+	 *
+	 * @param defaultBackground
+	 * @param defaultForeground
+	 * @param defaultFont
+	 */
+	public ColumnarDataVisualizer(Color defaultBackground, Color defaultForeground, Font defaultFont) {
+		this.defaultBackground = defaultBackground;
+		this.defaultForeground = defaultForeground;
+		this.defaultFont = defaultFont;
+	}
+
+	/**
+	 * Values of a single column, indexed by storage slot. Arrays are allocated
+	 * only when the first value of the given kind is set.
+	 */
+	private static final class ColumnData {
+		String[] texts;
+		String[] toolTipTexts;
+		int[] backgrounds;
+		int[] foregrounds;
+		int[] fonts;
+		int[] images;
+		int[] columnSpans;
+		int[] rowSpans;
+		final BitSet checkeds = new BitSet();
+		final BitSet grayeds = new BitSet();
+		final BitSet uncheckables = new BitSet();
+
+		/**
+		 * Clears the values of the slot. The styles have to be released by the
+		 * caller before.
+		 */
+		void clear(int slot) {
+			if (texts != null && slot < texts.length)
+				texts[slot] = null;
+			if (toolTipTexts != null && slot < toolTipTexts.length)
+				toolTipTexts[slot] = null;
+			clear(backgrounds, slot);
+			clear(foregrounds, slot);
+			clear(fonts, slot);
+			clear(images, slot);
+			clear(columnSpans, slot);
+			clear(rowSpans, slot);
+			checkeds.clear(slot);
+			grayeds.clear(slot);
+			uncheckables.clear(slot);
+		}
+
+		private static void clear(int[] values, int slot) {
+			if (values != null && slot < values.length)
+				values[slot] = 0;
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultBackground()
+	 */
+	@Override
+	public Color getDefaultBackground() {
+		return defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultForeground()
+	 */
+	@Override
+	public Color getDefaultForeground() {
+		return defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultFont()
+	 */
+	@Override
+	public Font getDefaultFont() {
+		return defaultFont;
+	}
+
+	/**
+	 * Returns the column storage for reading, or null if the column or the item
+	 * has no stored values.
+	 *
+	 * @param gridItem
+	 * @param column
+	 * @return column storage or null
+	 */
+	private ColumnData readColumn(GridItem gridItem, int column) {
+		if (column < 0 || column >= columns.size() || gridItem.dataSlot < 0)
+			return null;
+		return columns.get(column);
+	}
+
+	/**
+	 * Returns the column storage for writing, creating it when needed.
+	 *
+	 * @param column
+	 * @return column storage
+	 */
+	private ColumnData writeColumn(int column) {
+		while (column >= columns.size()) {
+			columns.add(new ColumnData());
+		}
+		return columns.get(column);
+	}
+
+	/**
+	 * Returns the storage slot of the item, assigning a new one if the item has
+	 * none yet.
+	 *
+	 * @param gridItem
+	 * @return slot
+	 */
+	private int acquireSlot(GridItem gridItem) {
+		int slot = gridItem.dataSlot;
+		if (slot >= 0)
+			return slot;
+
+		if (freeSlotCount > 0) {
+			slot = freeSlots[--freeSlotCount];
+		} else {
+			slot = slotCount++;
+			if (slot == owners.length) {
+				owners = Arrays.copyOf(owners, owners.length * 2);
+			}
+		}
+		owners[slot] = gridItem;
+		gridItem.dataSlot = slot;
+		return slot;
+	}
+
+	private static int capacityFor(int length, int slot) {
+		return Math.max(Math.max(length * 2, INITIAL_CAPACITY), slot + 1);
+	}
+
+	private static String[] ensureCapacity(String[] values, int slot) {
+		if (values == null)
+			return new String[capacityFor(0, slot)];
+		if (slot < values.length)
+			return values;
+		return Arrays.copyOf(values, capacityFor(values.length, slot));
+	}
+
+	private static int[] ensureCapacity(int[] values, int slot) {
+		if (values == null)
+			return new int[capacityFor(0, slot)];
+		if (slot < values.length)
+			return values;
+		return Arrays.copyOf(values, capacityFor(values.length, slot));
+	}
+
+	private static String get(String[] values, int slot, String defaultValue) {
+		if (values == null || slot >= values.length || values[slot] == null)
+			return defaultValue;
+		return values[slot];
+	}
+
+	private static int get(int[] values, int slot) {
+		if (values == null || slot >= values.length)
+			return 0;
+		return values[slot];
+	}
+
+	/**
+	 * Returns the id of the given style object, registering it if it is new, and
+	 * counts one more use of it. The id 0 stands for null.
+	 *
+	 * @param style
+	 * @return style id
+	 */
+	private int acquireStyle(Object style) {
+		if (style == null)
+			return 0;
+		Integer id = styleIds.get(style);
+		if (id == null) {
+			if (freeStyleCount > 0) {
+				id = freeStyleIds[--freeStyleCount];
+				styles.set(id - 1, style);
+			} else {
+				styles.add(style);
+				id = styles.size();
+				if (id > styleRefs.length) {
+					styleRefs = Arrays.copyOf(styleRefs, styleRefs.length * 2);
+				}
+			}
+			styleIds.put(style, id);
+		}
+		styleRefs[id - 1]++;
+		return id;
+	}
+
+	/**
+	 * Counts one use of the style less, dropping it from the style table when it
+	 * is not used any more.
+	 *
+	 * @param id
+	 *            style id, 0 for none
+	 */
+	private void releaseStyle(int id) {
+		if (id == 0 || --styleRefs[id - 1] > 0)
+			return;
+		styleIds.remove(styles.get(id - 1));
+		styles.set(id - 1, null);
+		if (freeStyleCount == freeStyleIds.length) {
+			freeStyleIds = Arrays.copyOf(freeStyleIds, freeStyleIds.length * 2);
+		}
+		freeStyleIds[freeStyleCount++] = id;
+	}
+
+	/**
+	 * Stores the id of the style in the slot, releasing the style stored
+	 * before.
+	 *
+	 * @return the id array, grown if needed
+	 */
+	private int[] setStyle(int[] ids, int slot, Object style) {
+		ids = ensureCapacity(ids, slot);
+		int previous = ids[slot];
+		ids[slot] = acquireStyle(style);
+		releaseStyle(previous);
+		return ids;
+	}
+
+	/**
+	 * Releases the styles used by the slot of the column.
+	 */
+	private void releaseStyles(ColumnData data, int slot) {
+		releaseStyle(get(data.backgrounds, slot));
+		releaseStyle(get(data.foregrounds, slot));
+		releaseStyle(get(data.fonts, slot));
+		releaseStyle(get(data.images, slot));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T style(int[] ids, int slot, T defaultValue) {
+		int id = get(ids, slot);
+		if (id == 0)
+			return defaultValue;
+		return (T) styles.get(id - 1);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getBackground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getBackground(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? defaultBackground : style(data.backgrounds, gridItem.dataSlot, defaultBackground);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getChecked(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getChecked(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data != null && data.checkeds.get(gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getColumnSpan(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? 0 : get(data.columnSpans, gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getRowSpan(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? 0 : get(data.rowSpans, gridItem.dataSlot);
+	}
+
+	/**
+	 * Returns false, the spans are only set through the items. Subclasses
+	 * computing spans in {@link #getColumnSpan(GridItem, int)} or
+	 * {@link #getRowSpan(GridItem, int)} have to return true.
+	 *
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#hasComputedSpans()
+	 */
+	@Override
+	public boolean hasComputedSpans() {
+		return false;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getFont(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Font getFont(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? defaultFont : style(data.fonts, gridItem.dataSlot, defaultFont);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getForeground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getForeground(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? defaultForeground : style(data.foregrounds, gridItem.dataSlot, defaultForeground);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getGrayed(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getGrayed(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data != null && data.grayeds.get(gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getImage(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Image getImage(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? null : style(data.images, gridItem.dataSlot, (Image) null);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getText(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? "" : get(data.texts, gridItem.dataSlot, "");
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getCheckable(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getCheckable(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null || !data.uncheckables.get(gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getToolTipText(GridItem gridItem, int column) {
+		ColumnData data = readColumn(gridItem, column);
+		return data == null ? null : get(data.toolTipTexts, gridItem.dataSlot, null);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setBackground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setBackground(GridItem gridItem, int column, Color color) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.backgrounds = setStyle(data.backgrounds, slot, color);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setChecked(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setChecked(GridItem gridItem, int column, boolean checked) {
+		writeColumn(column).checkeds.set(acquireSlot(gridItem), checked);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setColumnSpan(GridItem gridItem, int column, int span) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.columnSpans = ensureCapacity(data.columnSpans, slot);
+		data.columnSpans[slot] = span;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setRowSpan(GridItem gridItem, int column, int span) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.rowSpans = ensureCapacity(data.rowSpans, slot);
+		data.rowSpans[slot] = span;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setFont(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setFont(GridItem gridItem, int column, Font font) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.fonts = setStyle(data.fonts, slot, font);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setForeground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setForeground(GridItem gridItem, int column, Color foreground) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.foregrounds = setStyle(data.foregrounds, slot, foreground);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setGrayed(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setGrayed(GridItem gridItem, int column, boolean grayed) {
+		writeColumn(column).grayeds.set(acquireSlot(gridItem), grayed);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setImage(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Image)
+	 */
+	@Override
+	public void setImage(GridItem gridItem, int column, Image image) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.images = setStyle(data.images, slot, image);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setText(GridItem gridItem, int column, String text) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.texts = ensureCapacity(data.texts, slot);
+		data.texts[slot] = text;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setCheckable(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setCheckable(GridItem gridItem, int column, boolean checked) {
+		writeColumn(column).uncheckables.set(acquireSlot(gridItem), !checked);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setToolTipText(GridItem gridItem, int column, String tooltip) {
+		int slot = acquireSlot(gridItem);
+		ColumnData data = writeColumn(column);
+		data.toolTipTexts = ensureCapacity(data.toolTipTexts, slot);
+		data.toolTipTexts[slot] = tooltip;
+	}
+
+	/**
+	 * Clears the values of the row and returns its slot to the free list.
+	 *
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearRow(GridItem)
+	 */
+	@Override
+	public void clearRow(GridItem gridItem) {
+		int slot = gridItem.dataSlot;
+		if (slot < 0 || slot >= slotCount || owners[slot] != gridItem)
+			return;
+
+		for (ColumnData data : columns) {
+			releaseStyles(data, slot);
+			data.clear(slot);
+		}
+		owners[slot] = null;
+		gridItem.dataSlot = -1;
+
+		if (freeSlotCount == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+		}
+		freeSlots[freeSlotCount++] = slot;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearColumn(int)
+	 */
+	@Override
+	public void clearColumn(int column) {
+		if (column >= 0 && column < columns.size()) {
+			ColumnData data = columns.remove(column);
+			for (int slot = 0; slot < slotCount; slot++) {
+				releaseStyles(data, slot);
+			}
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#addColumn(int)
+	 */
+	@Override
+	public void addColumn(int column) {
+		if (column >= 0 && column < columns.size()) {
+			columns.add(column, new ColumnData());
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultBackground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultBackground(Color defaultBackground) {
+		this.defaultBackground = defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultForeground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultForeground(Color defaultForeground) {
+		this.defaultForeground = defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultFont(org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setDefaultFont(Font defaultFont) {
+		this.defaultFont = defaultFont;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearAll()
+	 */
+	@Override
+	public void clearAll() {
+		for (int i = 0; i < slotCount; i++) {
+			if (owners[i] != null) {
+				owners[i].dataSlot = -1;
+			}
+		}
+		owners = new GridItem[INITIAL_CAPACITY];
+		slotCount = 0;
+		freeSlots = new int[INITIAL_CAPACITY];
+		freeSlotCount = 0;
+		columns.clear();
+		styles.clear();
+		styleIds.clear();
+		styleRefs = new int[INITIAL_CAPACITY];
+		freeStyleIds = new int[INITIAL_CAPACITY];
+		freeStyleCount = 0;
+	}
+
+}
@@ -310,4 +310,19 @@ public interface DataVisualizer {
 	 */
 	void setToolTipText(GridItem gridItem, int columnIndex, String tooltip);
 
+	/**
+	 * Tells the grid whether {@link #getColumnSpan(GridItem, int)} and
+	 * {@link #getRowSpan(GridItem, int)} may return spans which were not set
+	 * through {@link GridItem#setColumnSpan(int, int)} or
+	 * {@link GridItem#setRowSpan(int, int)}. If so, the grid looks up the spans
+	 * of the painted rows, and of the rows above them which a row span could
+	 * reach down from, whenever it paints. The default is true; visualizers
+	 * which only return the spans set through the item should return false.
+	 * 
+	 * @return true if the spans may be computed by the visualizer
+	 */
+	default boolean hasComputedSpans() {
+		return true;
+	}
+
 }
@@ -16,12 +16,17 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.grid;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.eclipse.nebula.widgets.grid.internal.BranchRenderer;
 import org.eclipse.nebula.widgets.grid.internal.CheckBoxRenderer;
-import org.eclipse.nebula.widgets.grid.internal.TextUtils;
+import org.eclipse.nebula.widgets.grid.internal.TextMetricsCache;
 import org.eclipse.nebula.widgets.grid.internal.ToggleRenderer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
@@ -47,7 +52,34 @@ public class DefaultCellRenderer extends GridCellRenderer {
     private ToggleRenderer toggleRenderer;
 	private BranchRenderer branchRenderer;
     private CheckBoxRenderer checkRenderer;
-    private TextLayout textLayout;
+    private TextLayout measureLayout;
+
+    /**
+     * Maximum number of word wrapped cells whose layout is kept.
+     */
+    private static final int MAX_CELL_LAYOUTS = 512;
+
+    /**
+     * Text layout of a painted word wrapped cell with the values it was laid
+     * out for.
+     */
+    private static final class CellLayout {
+        final TextLayout layout;
+        Font font;
+        String text;
+        int alignment = -1;
+        int width = -1;
+
+        CellLayout(TextLayout layout) {
+            this.layout = layout;
+        }
+    }
+
+    /**
+     * Layouts of the word wrapped cells of this column, least recently painted
+     * first.
+     */
+    private LinkedHashMap<GridItem, CellLayout> cellLayouts;
 
     /**
      * {@inheritDoc}
@@ -178,60 +210,29 @@ public class DefaultCellRenderer extends GridCellRenderer {
         }
 
         if (!isWordWrap()) {
-            String text = TextUtils.getShortStr(gc, item.getText(getColumn()), width,truncationStyle);
+            TextMetricsCache textMetrics = TextMetricsCache.get(gc);
+            String text = textMetrics.getShortStr(gc, item.getText(getColumn()), width,truncationStyle);
+            Point extent = textMetrics.stringExtent(gc, text);
 
             if (getAlignment() == SWT.RIGHT) {
-                int len = gc.stringExtent(text).x;
+                int len = extent.x;
                 if (len < width) {
                     x += width - len;
                 }
             } else if (getAlignment() == SWT.CENTER) {
-                int len = gc.stringExtent(text).x;
+                int len = extent.x;
                 if (len < width) {
                     x += (width - len) / 2;
                 }
             }
 
-            int verticalDelta = getVerticalAlignmentAdjustment(gc.stringExtent(text).y, height);
+            int verticalDelta = getVerticalAlignmentAdjustment(extent.y, height);
             gc.drawString(text, getBounds().x + x, getBounds().y + textTopMargin + topMargin + verticalDelta, true);
         } else {
-            if (textLayout == null) {
-                textLayout = new TextLayout(gc.getDevice());
-                item.getParent().addListener(SWT.Dispose, e-> textLayout.dispose());
-            }
-            textLayout.setFont(gc.getFont());
-            textLayout.setText(item.getText(getColumn()));
-            textLayout.setAlignment(getAlignment());
-            textLayout.setWidth(width < 1 ? 1 : width);
+            TextLayout textLayout = getCellLayout(gc, item, width < 1 ? 1 : width);
 			int verticalDelta = 0;
-            if (item.getParent().isAutoHeight()) {
-				// Look through all columns (except this one) to get the max height needed for
-				// this item
-				int columnCount = item.getParent().getColumnCount();
-				int maxHeight = textLayout.getBounds().height + textTopMargin + textBottomMargin;
-				if (image != null) {
-					int imageHeight = topMargin + image.getBounds().height + bottomMargin;
-					maxHeight = Math.max(maxHeight, imageHeight);
-				}
-				for (int i = 0; i < columnCount; i++) {
-					GridColumn column = item.getParent().getColumn(i);
-					if (i != getColumn() && column.getWordWrap()) {
-						height = column.getCellRenderer().computeSize(gc, column.getWidth(), SWT.DEFAULT, item).y;
-						maxHeight = Math.max(maxHeight, height);
-					}
-				}
-
-				// Also look at the row header if necessary
-				if (item.getParent().isWordWrapHeader()) {
-					height = item.getParent().getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT,
-							item).y;
-					maxHeight = Math.max(maxHeight, height);
-				}
-
-				if (maxHeight != item.getHeight()) {
-					item.setHeight(maxHeight);
-				}
-			} else {
+			if (!item.getParent().isAutoHeight()) {
+				// with auto-height the grid sizes the row to the text before painting
 				verticalDelta = getVerticalAlignmentAdjustment(textLayout.getBounds().height, height);
 			}
             textLayout.draw(gc, getBounds().x + x, getBounds().y + textTopMargin + topMargin + verticalDelta);
@@ -430,20 +431,18 @@ public class DefaultCellRenderer extends GridCellRenderer {
         	else
         		plainTextWidth = wHint - x - rightMargin;
 
-            TextLayout currTextLayout = new TextLayout(gc.getDevice());
-            currTextLayout.setFont(gc.getFont());
-            currTextLayout.setText(item.getText(getColumn()));
-            currTextLayout.setAlignment(getAlignment());
-            currTextLayout.setWidth(plainTextWidth < 1 ? 1 : plainTextWidth);
+            if (measureLayout == null) {
+                measureLayout = new TextLayout(gc.getDevice());
+                item.getParent().addListener(SWT.Dispose, e-> measureLayout.dispose());
+            }
+            TextMetricsCache.WrappedText wrappedText = TextMetricsCache.get(gc).getWrappedText(measureLayout,
+                    gc.getFont(), item.getText(getColumn()), getAlignment(), plainTextWidth < 1 ? 1 : plainTextWidth);
 
             x += plainTextWidth + rightMargin;
 
             textHeight += topMargin + textTopMargin;
-            for(int cnt=0;cnt<currTextLayout.getLineCount();cnt++)
-                textHeight += currTextLayout.getLineBounds(cnt).height;
+            textHeight += wrappedText.linesHeight;
             textHeight += textBottomMargin + bottomMargin;
-
-            currTextLayout.dispose();
         }
 
         y = Math.max(y, textHeight);
@@ -451,6 +450,64 @@ public class DefaultCellRenderer extends GridCellRenderer {
         return new Point(x, y);
     }
 
+    /**
+     * Returns the layout of the text of the given item in this column. Each
+     * painted cell keeps its own layout, which is only changed and laid out
+     * again when the font, text, alignment or width of the cell changed. The
+     * layouts of disposed items are dropped whenever a layout is added.
+     */
+    private TextLayout getCellLayout(GC gc, GridItem item, int width) {
+        if (cellLayouts == null) {
+            cellLayouts = new LinkedHashMap<>(16, 0.75f, true);
+            item.getParent().addListener(SWT.Dispose, e -> {
+                for (CellLayout cell : cellLayouts.values()) {
+                    cell.layout.dispose();
+                }
+                cellLayouts.clear();
+            });
+        }
+
+        CellLayout cell = cellLayouts.get(item);
+        if (cell == null) {
+            // removed items, e.g. dropped by the streaming mode, give their
+            // layouts back before a new one is made
+            for (Iterator<Map.Entry<GridItem, CellLayout>> it = cellLayouts.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<GridItem, CellLayout> entry = it.next();
+                if (entry.getKey().isDisposed()) {
+                    entry.getValue().layout.dispose();
+                    it.remove();
+                }
+            }
+            cell = new CellLayout(new TextLayout(gc.getDevice()));
+            cellLayouts.put(item, cell);
+            if (cellLayouts.size() > MAX_CELL_LAYOUTS) {
+                Iterator<CellLayout> eldest = cellLayouts.values().iterator();
+                eldest.next().layout.dispose();
+                eldest.remove();
+            }
+        }
+
+        Font font = gc.getFont();
+        if (cell.font != font) {
+            cell.layout.setFont(font);
+            cell.font = font;
+        }
+        String text = item.getText(getColumn());
+        if (cell.text != text && (text == null || !text.equals(cell.text))) {
+            cell.layout.setText(text);
+            cell.text = text;
+        }
+        if (cell.alignment != getAlignment()) {
+            cell.layout.setAlignment(getAlignment());
+            cell.alignment = getAlignment();
+        }
+        if (cell.width != width) {
+            cell.layout.setWidth(width);
+            cell.width = width;
+        }
+        return cell.layout;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -664,7 +721,7 @@ public class DefaultCellRenderer extends GridCellRenderer {
 
         GC gc = new GC(item.getParent());
         gc.setFont(item.getFont(getColumn()));
-        Point size = gc.stringExtent(item.getText(getColumn()));
+        Point size = TextMetricsCache.get(gc).stringExtent(gc, item.getText(getColumn()));
 
         bounds.height = size.y;
 
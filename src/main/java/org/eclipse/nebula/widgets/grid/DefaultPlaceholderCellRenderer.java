@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Renderer painting cells of rows whose data is still being loaded by a
+ * {@link GridAsyncDataProvider}: the cell background with a light bar in
+ * place of the text. It does not access the data of the item.
+ */
+public class DefaultPlaceholderCellRenderer extends GridCellRenderer {
+	private static final int MARGIN = 4;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void paint(GC gc, Object value) {
+		GridItem item = (GridItem) value;
+		Grid grid = item.getParent();
+		Rectangle bounds = getBounds();
+
+		if (isSelected() || isCellSelected()) {
+			gc.setBackground(getDisplay()
+					.getSystemColor(grid.isFocusOnGrid() ? SWT.COLOR_LIST_SELECTION : SWT.COLOR_WIDGET_LIGHT_SHADOW));
+		} else {
+			gc.setBackground(grid.getBackground());
+		}
+		gc.fillRectangle(bounds.x, bounds.y, bounds.width + 1, bounds.height + 1);
+
+		int barHeight = Math.max(bounds.height / 3, 2);
+		int barWidth = Math.min(bounds.width - 2 * MARGIN, Math.max(bounds.width * 3 / 5, MARGIN));
+		if (barWidth > 0) {
+			gc.setBackground(getDisplay().getSystemColor(SWT.COLOR_WIDGET_LIGHT_SHADOW));
+			gc.fillRoundRectangle(bounds.x + MARGIN, bounds.y + (bounds.height - barHeight) / 2, barWidth, barHeight,
+					barHeight, barHeight);
+		}
+
+		if (grid.getLinesVisible()) {
+			gc.setForeground(grid.getLineColor());
+			gc.drawLine(bounds.x, bounds.y + bounds.height, bounds.x + bounds.width - 1, bounds.y + bounds.height);
+			gc.drawLine(bounds.x + bounds.width - 1, bounds.y, bounds.x + bounds.width - 1, bounds.y + bounds.height);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Point computeSize(GC gc, int wHint, int hHint, Object value) {
+		return new Point(wHint, hHint);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean notify(int event, Point point, Object value) {
+		return false;
+	}
+}
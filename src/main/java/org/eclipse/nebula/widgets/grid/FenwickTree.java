@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Binary indexed tree over non-negative per-row values (for example row
+ * visibility or row heights). Updating a value, computing a prefix sum and
+ * finding the row at a given prefix sum are all O(log n).
+ */
+class FenwickTree {
+	private int[] tree = new int[1];
+	private int size;
+
+	/**
+	 * Rebuilds the tree from the given values in O(n).
+	 *
+	 * @param size
+	 *            number of rows
+	 * @param values
+	 *            value of each row
+	 */
+	void build(int size, IntUnaryOperator values) {
+		if (tree.length < size + 1) {
+			tree = new int[size + 1];
+		} else {
+			Arrays.fill(tree, 0, size + 1, 0);
+		}
+		this.size = size;
+
+		for (int i = 1; i <= size; i++) {
+			tree[i] += values.applyAsInt(i - 1);
+			int parent = i + (i & -i);
+			if (parent <= size) {
+				tree[parent] += tree[i];
+			}
+		}
+	}
+
+	/**
+	 * Appends a row with the given value.
+	 *
+	 * @param value
+	 */
+	void append(int value) {
+		if (size + 1 == tree.length) {
+			tree = Arrays.copyOf(tree, tree.length * 2);
+		}
+		size++;
+		tree[size] = value + sum(size - 1) - sum(size - (size & -size));
+	}
+
+	/**
+	 * Adds delta to the value of the given row.
+	 *
+	 * @param row
+	 * @param delta
+	 */
+	void add(int row, int delta) {
+		for (int i = row + 1; i <= size; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	/**
+	 * @param end
+	 *            number of leading rows
+	 * @return sum of the values of rows 0 to end - 1
+	 */
+	int sum(int end) {
+		int sum = 0;
+		for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+			sum += tree[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return sum of all values
+	 */
+	int total() {
+		return sum(size);
+	}
+
+	/**
+	 * Finds the row which covers the given prefix sum, i.e. the smallest row r
+	 * with {@code sum(r + 1) > target}.
+	 *
+	 * @param target
+	 *            prefix sum, starting from 0
+	 * @return row index or the number of rows if target is not less than the
+	 *         total
+	 */
+	int find(int target) {
+		int row = 0;
+		int remaining = target;
+		for (int step = Integer.highestOneBit(Math.max(size, 1)); step > 0; step >>= 1) {
+			int next = row + step;
+			if (next <= size && tree[next] <= remaining) {
+				row = next;
+				remaining -= tree[next];
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	int size() {
+		return size;
+	}
+}
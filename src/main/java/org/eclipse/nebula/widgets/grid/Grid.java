@@ -29,9 +29,12 @@ package org.eclipse.nebula.widgets.grid;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.ToIntFunction;
 
@@ -49,6 +52,7 @@ import org.eclipse.nebula.widgets.grid.internal.GridToolTip;
 import org.eclipse.nebula.widgets.grid.internal.IScrollBarProxy;
 import org.eclipse.nebula.widgets.grid.internal.NullScrollBarProxy;
 import org.eclipse.nebula.widgets.grid.internal.ScrollBarProxyAdapter;
+import org.eclipse.nebula.widgets.grid.internal.TextMetricsCache;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.accessibility.ACC;
@@ -156,6 +160,14 @@ public class Grid extends Canvas {
 	public void clearItems() {
 		items.clear();
 		rootItems.clear();
+		rowBase = 0;
+		invalidateRowIndexes();
+		invalidateAutoHeights();
+		spanIndex.clear();
+		if (dataBudget != null) {
+			dataBudget.clear();
+		}
+		rowSelection.clear();
 		deselectAll();
 		redraw();
 	}
@@ -250,17 +262,50 @@ public class Grid extends Canvas {
 	/**
 	 * All items in the table, not just root items.
 	 */
-	private final List<GridItem> items = new ArrayList<>();
+	private final RingList<GridItem> items = new RingList<>();
 
 	/**
 	 * All root items.
 	 */
-	private final List<GridItem> rootItems = new ArrayList<>();
+	private final RingList<GridItem> rootItems = new RingList<>();
 
 	/**
-	 * List of selected items.
+	 * Number of rows dropped from the top by the streaming mode since the items
+	 * were last renumbered. The row index of an item is relative to it, see
+	 * {@link GridItem#getRowIndex()}.
 	 */
-	private final List<GridItem> selectedItems = new ArrayList<>();
+	int rowBase;
+
+	/**
+	 * Row base after which the items are renumbered, long before it overflows.
+	 */
+	private static final int MAX_ROW_BASE = 1 << 30;
+
+	/**
+	 * Total number of rows dropped from the top by the streaming mode, never
+	 * reset. Lets row indexes taken earlier be mapped to the current ones.
+	 */
+	long droppedRows;
+
+	/**
+	 * Maximum number of root items kept in streaming mode, 0 if the streaming
+	 * mode is off.
+	 */
+	private int streamingCapacity;
+
+	private boolean followTail;
+
+	/**
+	 * True if the last row was visible before the appends of the current frame.
+	 */
+	private boolean tailVisible;
+
+	private boolean streamUpdateScheduled;
+
+	/**
+	 * Indexes of the selected rows.
+	 */
+	private final RowSelection rowSelection = new RowSelection();
 
 	/**
 	 * Reference to the item in focus.
@@ -270,8 +315,8 @@ public class Grid extends Canvas {
 	private boolean cellSelectionEnabled = false;
 	private boolean cellDragSelectionEnabled = true;
 
-	private final List<Point> selectedCells = new ArrayList<>();
-	private final List<Point> selectedCellsBeforeRangeSelect = new ArrayList<>();
+	private final CellSelection selectedCells = new CellSelection();
+	private final CellSelection selectedCellsBeforeRangeSelect = new CellSelection();
 
 	private boolean cellDragSelectionOccuring = false;
 	private boolean cellRowDragSelectionOccuring = false;
@@ -310,6 +355,20 @@ public class Grid extends Canvas {
 	 */
 	private final List<GridColumn> displayOrderedColumns = new ArrayList<>();
 
+	/**
+	 * Left edges of the columns in display order relative to the left edge of the
+	 * first column, followed by the total width of all visible columns. Null if
+	 * obsolete; the value must never be read directly, use
+	 * #getColumnOffsets().
+	 */
+	private int[] columnOffsets;
+
+	/**
+	 * Display order index of each column, indexed by column index. Computed
+	 * together with {@link #columnOffsets}.
+	 */
+	private int[] columnDisplayIndexes;
+
 	private GridColumnGroup[] columnGroups = new GridColumnGroup[0];
 
 	/**
@@ -346,6 +405,35 @@ public class Grid extends Canvas {
 	 */
 	private GridCellRenderer emptyCellRenderer = new DefaultEmptyCellRenderer();
 
+	/**
+	 * Renderer used to paint the cells of rows whose data is being loaded by
+	 * the asynchronous data provider.
+	 */
+	private GridCellRenderer placeholderRenderer = new DefaultPlaceholderCellRenderer();
+
+	/**
+	 * Loader of the asynchronous data provider, null if SWT.SetData is used.
+	 */
+	GridAsyncDataLoader<?> asyncDataLoader;
+
+	/**
+	 * True while a frame is painted. Only painting requests the data of rows
+	 * from the asynchronous data provider.
+	 */
+	boolean painting;
+
+	/**
+	 * True while data loaded by the asynchronous data provider is applied. The
+	 * loader repaints the rows it filled, so full redraws are skipped then.
+	 */
+	boolean applyingData;
+
+	/**
+	 * Limit of the rows of a virtual grid keeping their data, null if there is
+	 * none.
+	 */
+	GridDataBudget dataBudget;
+
 	/**
 	 * Renderer used to paint empty row headers when the rows don't fill the
 	 * vertical space.
@@ -579,6 +667,31 @@ public class Grid extends Canvas {
 	 */
 	private int currentVisibleItems = 0;
 
+	/**
+	 * Visibility (1 or 0) of each row, used to map between rows and the
+	 * vertical scroll position in O(log n). Built lazily on first use and kept
+	 * up to date on appends and visibility changes.
+	 */
+	private final FenwickTree visibleRows = new FenwickTree();
+
+	/**
+	 * True if {@link #visibleRows} has to be rebuilt, e.g. after items were
+	 * inserted or removed in the middle.
+	 */
+	private boolean visibleRowsObsolete = true;
+
+	/**
+	 * Height of each row including its separator line (0 for rows which are not
+	 * visible), used to map between rows and pixel offsets in O(log n) when rows
+	 * have differing heights. Maintained like {@link #visibleRows}.
+	 */
+	private final FenwickTree rowHeights = new FenwickTree();
+
+	/**
+	 * True if {@link #rowHeights} has to be rebuilt.
+	 */
+	private boolean rowHeightsObsolete = true;
+
 	/**
 	 * Item selected when a multiple selection using shift+click first occurs. This
 	 * item anchors all further shift+click selections.
@@ -587,6 +700,12 @@ public class Grid extends Canvas {
 
 	private boolean columnScrolling = false;
 
+	/**
+	 * True if the vertical scrollbar selection is a pixel offset instead of a
+	 * visible row index.
+	 */
+	private boolean pixelScrolling = false;
+
 	private int groupHeaderHeight;
 
 	private Color cellHeaderSelectionBackground;
@@ -609,6 +728,12 @@ public class Grid extends Canvas {
 	 */
 	private boolean disposing = false;
 
+	/**
+	 * True while {@link #addItems(int)} creates its items. Sizing, scroll
+	 * values and redraw are then updated once for the whole batch.
+	 */
+	private boolean addingItems = false;
+
 	/**
 	 * True if there is at least one tree node. This is used by accessibility and
 	 * various places for optimization.
@@ -628,6 +753,11 @@ public class Grid extends Canvas {
 	 */
 	private boolean hasSpanning = false;
 
+	/**
+	 * Spanning cells, see {@link #updateCellSpan(GridItem, int)}.
+	 */
+	private final GridSpanIndex spanIndex = new GridSpanIndex(this);
+
 	/**
 	 * Index of first visible item. The value must never be read directly. It is
 	 * cached and updated when appropriate. #getTopIndex should be called for every
@@ -637,6 +767,19 @@ public class Grid extends Canvas {
 	 * @see #bottomIndex
 	 */
 	int topIndex = -1;
+	/**
+	 * Number of pixels of the top item which are scrolled out of view. Computed
+	 * together with {@link #topIndex} and always 0 unless pixel scrolling is
+	 * enabled. #getTopRowOffset() should be called for every client.
+	 */
+	private int topRowOffset;
+	/**
+	 * Horizontal and vertical scroll position in pixels of the content currently
+	 * on screen (apart from damaged areas). Used to scroll by copying the painted
+	 * content.
+	 */
+	private int paintedScrollX;
+	private int paintedScrollY;
 	/**
 	 * Index of last visible item. The value must never be read directly. It is
 	 * cached and updated when appropriate. #getBottomIndex() should be called for
@@ -652,14 +795,14 @@ public class Grid extends Canvas {
 	int bottomIndex = -1;
 
 	/**
-	 * Index of the first visible column. A value of -1 indicates that the value is
-	 * old and will be recomputed.
+	 * Index of the first visible column, as last computed by
+	 * {@link #getStartColumnIndex()}.
 	 */
 	int startColumnIndex = -1;
 
 	/**
-	 * Index of the the last visible column. A value of -1 indicates that the value
-	 * is old and will be recomputed.
+	 * Index of the the last visible column, as last computed by
+	 * {@link #getEndColumnIndex()}.
 	 */
 	int endColumnIndex = -1;
 
@@ -718,11 +861,46 @@ public class Grid extends Canvas {
 	private final IRenderer insertMarkRenderer = new DefaultInsertMarkRenderer();
 	private boolean sizeOnEveryItemImageChange;
 	private boolean autoHeight = false;
+	private int autoHeightMargin = 10;
+
+	/**
+	 * Number of nested changes of the selection requested through the API, see
+	 * {@link #beginSelection()}.
+	 */
+	private int selectionDepth;
+
+	/**
+	 * True if the auto heights have to be measured again because data, columns
+	 * or the size changed since the last measurement, see
+	 * {@link #invalidateAutoHeights()}. Scrolling is detected by comparing the
+	 * measured top index and height.
+	 */
+	private boolean autoHeightsObsolete = true;
+	private int measuredTopIndex = -1;
+	private int measuredHeight = -1;
+
+	/**
+	 * Listeners informed about the cost of every painted frame, null if there
+	 * are none.
+	 */
+	private List<GridPaintStatsListener> paintStatsListeners;
+
+	/**
+	 * Statistics of the frame being painted. Only set during a paint while
+	 * paint statistics listeners are registered.
+	 */
+	GridPaintStats paintStats;
 	private boolean autoWidth = true;
 	private boolean wordWrapRowHeader = false;
 
 	private final DataVisualizer dataVisualizer;
 
+	/**
+	 * Incremented whenever a column is added. Virtual items which received
+	 * SWT.SetData in an older epoch have to be asked for their data again.
+	 */
+	int columnsEpoch;
+
 	private Listener defaultKeyListener;
 
 	private boolean defaultKeyListenerEnabled = true;
@@ -828,6 +1006,7 @@ public class Grid extends Canvas {
 		emptyColumnHeaderRenderer.setDisplay(getDisplay());
 		emptyColumnFooterRenderer.setDisplay(getDisplay());
 		emptyCellRenderer.setDisplay(getDisplay());
+		placeholderRenderer.setDisplay(getDisplay());
 		dropPointRenderer.setDisplay(getDisplay());
 		focusRenderer.setDisplay(getDisplay());
 		emptyRowHeaderRenderer.setDisplay(getDisplay());
@@ -984,6 +1163,71 @@ public class Grid extends Canvas {
 		addTypedListener(listener, SWT.Expand, SWT.Collapse);
 	}
 
+	/**
+	 * Adds the listener to the collection of listeners who will be informed
+	 * about the cost of every frame painted by the receiver. Paint statistics
+	 * are only collected while at least one such listener is registered.
+	 *
+	 * @param listener
+	 *            the listener which should be notified
+	 * @throws IllegalArgumentException
+	 *             <ul>
+	 *             <li>ERROR_NULL_ARGUMENT - if the listener is null</li>
+	 *             </ul>
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see GridPaintStatsListener
+	 * @see #removePaintStatsListener(GridPaintStatsListener)
+	 */
+	public void addPaintStatsListener(final GridPaintStatsListener listener) {
+		checkWidget();
+		if (listener == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		}
+		if (paintStatsListeners == null) {
+			paintStatsListeners = new ArrayList<>();
+		}
+		paintStatsListeners.add(listener);
+	}
+
+	/**
+	 * Removes the listener from the collection of listeners who will be informed
+	 * about the cost of every frame painted by the receiver.
+	 *
+	 * @param listener
+	 *            the listener which should no longer be notified
+	 * @throws IllegalArgumentException
+	 *             <ul>
+	 *             <li>ERROR_NULL_ARGUMENT - if the listener is null</li>
+	 *             </ul>
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see GridPaintStatsListener
+	 * @see #addPaintStatsListener(GridPaintStatsListener)
+	 */
+	public void removePaintStatsListener(final GridPaintStatsListener listener) {
+		checkWidget();
+		if (listener == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		}
+		if (paintStatsListeners != null) {
+			paintStatsListeners.remove(listener);
+			if (paintStatsListeners.isEmpty()) {
+				paintStatsListeners = null;
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -1041,21 +1285,23 @@ public class Grid extends Canvas {
 	 */
 	public void deselect(final int index) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (index < 0 || index > items.size() - 1) {
+				return;
+			}
 
-		if (index < 0 || index > items.size() - 1) {
-			return;
-		}
-
-		final GridItem item = items.get(index);
+			final GridItem item = items.get(index);
 
-		if (!cellSelectionEnabled) {
-			if (selectedItems.contains(item)) {
-				selectedItems.remove(item);
+			if (!cellSelectionEnabled) {
+				rowSelection.remove(index);
+			} else {
+				deselectCells(getCells(item));
 			}
-		} else {
-			deselectCells(getCells(item));
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-		redraw();
 	}
 
 	/**
@@ -1081,26 +1327,26 @@ public class Grid extends Canvas {
 	 */
 	public void deselect(final int start, final int end) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			for (int i = start; i <= end; i++) {
+				if (i < 0) {
+					continue;
+				}
+				if (i > items.size() - 1) {
+					break;
+				}
 
-		for (int i = start; i <= end; i++) {
-			if (i < 0) {
-				continue;
-			}
-			if (i > items.size() - 1) {
-				break;
-			}
-
-			final GridItem item = items.get(i);
-
-			if (!cellSelectionEnabled) {
-				if (selectedItems.contains(item)) {
-					selectedItems.remove(item);
+				if (!cellSelectionEnabled) {
+					rowSelection.remove(i);
+				} else {
+					deselectCells(getCells(items.get(i)));
 				}
-			} else {
-				deselectCells(getCells(item));
 			}
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-		redraw();
 	}
 
 	/**
@@ -1127,24 +1373,25 @@ public class Grid extends Canvas {
 	 */
 	public void deselect(final int[] indices) {
 		checkWidget();
-		if (indices == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
-		}
-
-		for (final int j : indices) {
-			if (j >= 0 && j < items.size()) {
-				final GridItem item = items.get(j);
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (indices == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			}
 
-				if (!cellSelectionEnabled) {
-					if (selectedItems.contains(item)) {
-						selectedItems.remove(item);
+			for (final int j : indices) {
+				if (j >= 0 && j < items.size()) {
+					if (!cellSelectionEnabled) {
+						rowSelection.remove(j);
+					} else {
+						deselectCells(getCells(items.get(j)));
 					}
-				} else {
-					deselectCells(getCells(item));
 				}
 			}
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-		redraw();
 	}
 
 	/**
@@ -1161,12 +1408,16 @@ public class Grid extends Canvas {
 	 */
 	public void deselectAll() {
 		checkWidget();
-
-		if (!cellSelectionEnabled) {
-			selectedItems.clear();
-			redraw();
-		} else {
-			deselectAllCells();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!cellSelectionEnabled) {
+				rowSelection.clear();
+				redraw();
+			} else {
+				deselectAllCells();
+			}
+		} finally {
+			endSelection(event);
 		}
 	}
 
@@ -1269,22 +1520,11 @@ public class Grid extends Canvas {
 
 		x2 -= getHScrollSelectionInPixels();
 
-		for (final GridColumn column : displayOrderedColumns) {
-			if (!column.isVisible()) {
-				continue;
-			}
-
-			if (point.x >= x2 && point.x < x2 + column.getWidth()) {
-				overThis = column;
-				break;
-			}
-
-			x2 += column.getWidth();
-		}
-
-		if (overThis == null) {
+		final int displayIndex = getDisplayIndexAt(point.x - x2);
+		if (displayIndex == -1) {
 			return null;
 		}
+		overThis = displayOrderedColumns.get(displayIndex);
 
 		if (hasSpanning) {
 			// special logic for column spanning
@@ -1293,7 +1533,7 @@ public class Grid extends Canvas {
 			}
 
 			if (item != null) {
-				final int displayColIndex = displayOrderedColumns.indexOf(overThis);
+				final int displayColIndex = displayIndex;
 
 				// track back all previous columns and check their spanning
 				for (int i = 0; i < displayColIndex; i++) {
@@ -1525,6 +1765,106 @@ public class Grid extends Canvas {
 	 */
 	private void clearDisplayOrderedCache() {
 		columnOrders = null;
+		invalidateColumnOffsets();
+	}
+
+	/**
+	 * Marks the column offsets obsolete after a column width, visibility or order
+	 * change.
+	 */
+	void invalidateColumnOffsets() {
+		columnOffsets = null;
+		spanIndex.invalidate();
+	}
+
+	/**
+	 * Returns the column offsets, rebuilding them if necessary.
+	 *
+	 * @return left edge of each column in display order and the total width
+	 */
+	private int[] getColumnOffsets() {
+		if (columnOffsets == null || columnOffsets.length != displayOrderedColumns.size() + 1
+				|| columnDisplayIndexes.length != columns.size()) {
+			final int size = displayOrderedColumns.size();
+			final int[] offsets = new int[size + 1];
+			final int[] displayIndexes = new int[columns.size()];
+			for (int i = 0; i < size; i++) {
+				final GridColumn column = displayOrderedColumns.get(i);
+				offsets[i + 1] = offsets[i] + (column.isVisible() ? column.getWidth() : 0);
+				if (column.index >= 0 && column.index < displayIndexes.length) {
+					displayIndexes[column.index] = i;
+				}
+			}
+			columnDisplayIndexes = displayIndexes;
+			columnOffsets = offsets;
+		}
+		return columnOffsets;
+	}
+
+	/**
+	 * @param column
+	 * @return offset of the left edge of the column from the left edge of the
+	 *         first column
+	 */
+	private int getColumnOffset(final GridColumn column) {
+		final int[] offsets = getColumnOffsets();
+		return offsets[columnDisplayIndexes[column.index]];
+	}
+
+	/**
+	 * Returns the position of the column in display order, looked up in the
+	 * inverse of the column order.
+	 *
+	 * @param columnIndex
+	 *            creation index of the column
+	 * @return display order index or -1 if there is no such column
+	 */
+	int getColumnDisplayIndex(final int columnIndex) {
+		if (columnIndex < 0 || columnIndex >= columns.size()) {
+			return -1;
+		}
+		getColumnOffsets();
+		return columnDisplayIndexes[columnIndex];
+	}
+
+	/**
+	 * Finds the first column in display order whose right edge lies after the
+	 * given offset by binary search. Such a column is always visible.
+	 *
+	 * @param x
+	 *            offset from the left edge of the first column
+	 * @return display order index of the column or the number of columns if
+	 *         there is none
+	 */
+	private int getDisplayIndexAfter(final int x) {
+		final int[] offsets = getColumnOffsets();
+		int low = 0;
+		int high = offsets.length - 1;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (offsets[mid + 1] > x) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Finds the visible column covering the given offset by binary search.
+	 *
+	 * @param x
+	 *            offset from the left edge of the first column
+	 * @return display order index of the column or -1 if no column covers the
+	 *         offset
+	 */
+	private int getDisplayIndexAt(final int x) {
+		if (x < 0) {
+			return -1;
+		}
+		final int index = getDisplayIndexAfter(x);
+		return index < displayOrderedColumns.size() ? index : -1;
 	}
 
 	/**
@@ -1845,48 +2185,30 @@ public class Grid extends Canvas {
 			y2 += headerHeight;
 		}
 
-		GridItem itemToReturn = null;
-
-		int row = getTopIndex();
-		while (row < items.size() && y2 <= getClientArea().height) {
-			final GridItem currItem = items.get(row);
-			if (currItem.isVisible()) {
-				final int currItemHeight = currItem.getHeight();
+		if (p.y < y2) {
+			// above the rows, e.g. while drag selecting
+			return null;
+		}
 
-				if (p.y >= y2 && p.y < y2 + currItemHeight + 1) {
-					itemToReturn = currItem;
-					break;
-				}
+		GridItem itemToReturn = null;
 
-				y2 += currItemHeight + 1;
+		final int gridY = p.y - y2 + getRowPixel(getTopIndex()) + getTopRowOffset();
+		if (gridY >= 0 && gridY < getRowPixel(items.size())) {
+			final int row = getRowAtPixel(gridY);
+			// like the painted rows, the row has to start within the client area
+			if (p.y - gridY + getRowPixel(row) <= getClientArea().height) {
+				itemToReturn = items.get(row);
 			}
-			row++;
 		}
 
-		if (hasSpanning) {
-			if (itemToReturn != null) {
-				final int itemIndex = getIndexOfItem(itemToReturn);
-
-				final GridColumn gridColumn = getColumn(itemToReturn, point);
-				final int displayColIndex = displayOrderedColumns.indexOf(gridColumn);
-
-				// track back all previous columns and check their spanning
-				int indexNextItemToCheck = 0;
-				for (int i = 0; i < itemIndex; i++) {
-					if (i < indexNextItemToCheck) {
-						continue;
-					}
-					final GridItem gridItem = this.getItem(i);
-					if (gridItem.isVisible() == false) {
-						continue;
-					}
-					final int span = gridItem.getRowSpan(displayColIndex);
-
-					if (i + span >= itemIndex) {
-						itemToReturn = gridItem;
-						break;
-					}
-					indexNextItemToCheck = i + span + 1;
+		if (hasSpanning && itemToReturn != null) {
+			// a cell of a previous item can span down into this one
+			final GridColumn gridColumn = getColumn(itemToReturn, point);
+			if (gridColumn != null) {
+				final GridItem spanningItem = spanIndex.getSpanningItem(getColumnDisplayIndex(gridColumn.index),
+						itemToReturn.getRowIndex());
+				if (spanningItem != null) {
+					itemToReturn = spanningItem;
 				}
 			}
 		}
@@ -2120,23 +2442,18 @@ public class Grid extends Canvas {
 	public GridItem getNextVisibleItem(final GridItem item) {
 		checkWidget();
 
-		int index = item.getRowIndex();
+		final int index = item.getRowIndex();
 		if (items.size() == index + 1) {
 			return null;
 		}
 
-		GridItem nextItem = items.get(index + 1);
-
-		while (!nextItem.isVisible()) {
-			index++;
-			if (items.size() == index + 1) {
-				return null;
-			}
-
-			nextItem = items.get(index + 1);
+		if (!isTree) {
+			return items.get(index + 1);
 		}
 
-		return nextItem;
+		final FenwickTree visibleRows = getVisibleRows();
+		final int rank = visibleRows.sum(index + 1);
+		return rank < visibleRows.total() ? items.get(visibleRows.find(rank)) : null;
 	}
 
 	/**
@@ -2162,23 +2479,17 @@ public class Grid extends Canvas {
 			index = items.size();
 		} else {
 			index = item.getRowIndex();
-			if (index <= 0) {
-				return null;
-			}
+		}
+		if (index <= 0) {
+			return null;
 		}
 
-		GridItem prevItem = items.get(index - 1);
-
-		while (!prevItem.isVisible()) {
-			index--;
-			if (index == 0) {
-				return null;
-			}
-
-			prevItem = items.get(index - 1);
+		if (!isTree) {
+			return items.get(index - 1);
 		}
 
-		return prevItem;
+		final int rank = getVisibleRows().sum(index);
+		return rank > 0 ? items.get(getVisibleRows().find(rank - 1)) : null;
 	}
 
 	/**
@@ -2356,20 +2667,22 @@ public class Grid extends Canvas {
 		checkWidget();
 
 		if (!cellSelectionEnabled) {
-			return selectedItems.toArray(new GridItem[selectedItems.size()]);
+			final GridItem[] selection = new GridItem[rowSelection.size()];
+			int i = 0;
+			for (int row = rowSelection.next(0); row != -1; row = rowSelection.next(row + 1)) {
+				selection[i++] = items.get(row);
+			}
+			return selection;
 		} else {
-			final Vector<GridItem> items = new Vector<>();
+			final List<GridItem> items = new ArrayList<>();
 			final int itemCount = getItemCount();
 
-			for (final Point cell : selectedCells) {
-				if (cell.y >= 0 && cell.y < itemCount) {
-					final GridItem item = getItem(cell.y);
-					if (!items.contains(item)) {
-						items.add(item);
-					}
+			for (final int row : selectedCells.rows()) {
+				if (row < itemCount) {
+					items.add(getItem(row));
 				}
 			}
-			return items.toArray(new GridItem[] {});
+			return items.toArray(new GridItem[items.size()]);
 		}
 	}
 
@@ -2391,16 +2704,9 @@ public class Grid extends Canvas {
 		checkWidget();
 
 		if (!cellSelectionEnabled) {
-			return selectedItems.size();
+			return rowSelection.size();
 		} else {
-			final Vector<GridItem> items = new Vector<>();
-			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!items.contains(item)) {
-					items.add(item);
-				}
-			}
-			return items.size();
+			return selectedCells.rowCount();
 		}
 	}
 
@@ -2439,17 +2745,13 @@ public class Grid extends Canvas {
 		checkWidget();
 
 		if (!cellSelectionEnabled) {
-			if (selectedItems.size() == 0) {
-				return -1;
-			}
-
-			return selectedItems.get(0).getRowIndex();
+			return rowSelection.next(0);
 		} else {
-			if (selectedCells.size() == 0) {
+			if (selectedCells.isEmpty()) {
 				return -1;
 			}
 
-			return selectedCells.get(0).y;
+			return selectedCells.first().y;
 		}
 	}
 
@@ -2477,28 +2779,9 @@ public class Grid extends Canvas {
 		checkWidget();
 
 		if (!cellSelectionEnabled) {
-			final int[] indices = new int[selectedItems.size()];
-			int i = 0;
-			for (final GridItem item : selectedItems) {
-				indices[i] = item.getRowIndex();
-				i++;
-			}
-			return indices;
+			return rowSelection.toArray();
 		} else {
-			final Vector<GridItem> selectedRows = new Vector<>();
-			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!selectedRows.contains(item)) {
-					selectedRows.add(item);
-				}
-			}
-			final int[] indices = new int[selectedRows.size()];
-			int i = 0;
-			for (final GridItem item : selectedRows) {
-				indices[i] = item.getRowIndex();
-				i++;
-			}
-			return indices;
+			return selectedCells.rows();
 		}
 	}
 
@@ -2523,36 +2806,26 @@ public class Grid extends Canvas {
 			return topIndex;
 		}
 
+		topRowOffset = 0;
 		if (!vScroll.getVisible()) {
 			topIndex = 0;
+		} else if (pixelScrolling) {
+			// the selection is the pixel offset of the visible area
+			final int offset = vScroll.getSelection();
+			topIndex = getRowAtPixel(offset);
+			topRowOffset = offset - getRowPixel(topIndex);
 		} else {
 			// figure out first visible row and last visible row
 			int firstVisibleIndex = vScroll.getSelection();
 
 			if (isTree) {
-				final Iterator<GridItem> itemsIter = items.iterator();
-				int row = firstVisibleIndex + 1;
-
-				while (row > 0 && itemsIter.hasNext()) {
-					final GridItem item = itemsIter.next();
-
-					if (item.isVisible()) {
-						row--;
-						if (row == 0) {
-							firstVisibleIndex = item.getRowIndex();
-						}
-					}
+				final FenwickTree visibleRows = getVisibleRows();
+				if (firstVisibleIndex < visibleRows.total()) {
+					firstVisibleIndex = visibleRows.find(firstVisibleIndex);
 				}
 			}
 
 			topIndex = firstVisibleIndex;
-
-			/*
-			 * MOPR here lies more potential for increasing performance for the case (isTree
-			 * || hasDifferingHeights) the topIndex could be derived from the previous value
-			 * depending on a delta of the vScroll.getSelection() instead of being
-			 * calculated completely anew
-			 */
 		}
 
 		return topIndex;
@@ -2590,10 +2863,11 @@ public class Grid extends Canvas {
 		} else if (getVisibleGridHeight() < 1) {
 			bottomIndex = getTopIndex();
 		} else {
-			final RowRange range = getRowRange(getTopIndex(), getVisibleGridHeight(), false, false);
+			final int availableHeight = getVisibleGridHeight() + getTopRowOffset();
+			final RowRange range = getRowRange(getTopIndex(), availableHeight, false, false);
 
 			bottomIndex = range.endIndex;
-			bottomIndexShownCompletely = range.height <= getVisibleGridHeight();
+			bottomIndexShownCompletely = range.height <= availableHeight;
 		}
 
 		return bottomIndex;
@@ -2619,19 +2893,14 @@ public class Grid extends Canvas {
 		// parameter preparation
 		if (startIndex == -1) {
 			// search frist visible item
-			do {
-				startIndex++;
-			} while (startIndex < items.size() && !items.get(startIndex).isVisible());
-			if (startIndex == items.size()) {
+			startIndex = getFirstVisibleIndex();
+			if (startIndex == -1) {
 				return null;
 			}
 		}
 		if (endIndex == -1) {
 			// search last visible item
-			endIndex = items.size();
-			do {
-				endIndex--;
-			} while (endIndex >= 0 && !items.get(endIndex).isVisible());
+			endIndex = getLastVisibleIndex();
 			if (endIndex == -1) {
 				return null;
 			}
@@ -2647,20 +2916,11 @@ public class Grid extends Canvas {
 		range.startIndex = startIndex;
 		range.endIndex = endIndex;
 
-		if (isTree || hasDifferingHeights) {
-			for (int idx = startIndex; idx <= endIndex; idx++) {
-				final GridItem currItem = items.get(idx);
-
-				if (currItem.isVisible()) {
-					if (range.rows > 0) {
-						range.height++; // height of horizontal row separator
-					}
-					range.height += currItem.getHeight();
-					range.rows++;
-				}
-			}
+		range.rows = countVisibleRows(startIndex, endIndex);
+		if (hasDifferingHeights) {
+			final FenwickTree rowHeights = getRowHeights();
+			range.height = rowHeights.sum(endIndex + 1) - rowHeights.sum(startIndex) - 1;
 		} else {
-			range.rows = range.endIndex - range.startIndex + 1;
 			range.height = (itemHeight + 1) * range.rows - 1;
 		}
 
@@ -2697,23 +2957,9 @@ public class Grid extends Canvas {
 			final boolean inverse) {
 		// parameter preparation
 		if (startIndex == -1) {
-			if (!inverse) {
-				// search frist visible item
-				do {
-					startIndex++;
-				} while (startIndex < items.size() && !items.get(startIndex).isVisible());
-				if (startIndex == items.size()) {
-					return null;
-				}
-			} else {
-				// search last visible item
-				startIndex = items.size();
-				do {
-					startIndex--;
-				} while (startIndex >= 0 && !items.get(startIndex).isVisible());
-				if (startIndex == -1) {
-					return null;
-				}
+			startIndex = !inverse ? getFirstVisibleIndex() : getLastVisibleIndex();
+			if (startIndex == -1) {
+				return null;
 			}
 		}
 
@@ -2733,70 +2979,68 @@ public class Grid extends Canvas {
 			return range;
 		}
 
-		if (isTree || hasDifferingHeights) {
-			int otherIndex = startIndex; // tentative end index
-			int consumedItems = 0;
-			int consumedHeight = 0;
-
-			// consume height for startEnd (note: no separator pixel added here)
-			consumedItems++;
-			consumedHeight += items.get(otherIndex).getHeight();
-
-			// note: we use "+2" in next line, because we only try to add another row if
-			// there
-			// is room for the separator line + at least one pixel row for the additional
-			// item
-			while (consumedHeight + 2 <= availableHeight) {
-				// STEP 1:
-				// try to find a visible item we can add
-
-				int nextIndex = otherIndex;
-				GridItem nextItem;
-
-				do {
-					if (!inverse) {
-						nextIndex++;
-					} else {
-						nextIndex--;
-					}
+		if (isTree && !hasDifferingHeights) {
+			// all rows have the same height, so the number of rows fitting into
+			// availableHeight is known up front and only the visible rows have
+			// to be counted
+			int rows;
+			if (forceEndCompletelyInside) {
+				rows = Math.max(1, (availableHeight + 1) / (itemHeight + 1));
+			} else {
+				rows = (availableHeight - 1) / (itemHeight + 1) + 1;
+			}
 
-					if (nextIndex >= 0 && nextIndex < items.size()) {
-						nextItem = items.get(nextIndex);
-					} else {
-						nextItem = null;
-					}
-				} while (nextItem != null && !nextItem.isVisible());
+			final FenwickTree visibleRows = getVisibleRows();
+			final int startRank = visibleRows.sum(startIndex);
+			final int otherRank;
+			if (!inverse) {
+				rows = Math.min(rows, visibleRows.total() - startRank);
+				otherRank = startRank + rows - 1;
+			} else {
+				rows = Math.min(rows, startRank + 1);
+				otherRank = startRank - rows + 1;
+			}
+			final int otherIndex = visibleRows.find(otherRank);
 
-				if (nextItem == null) {
-					// no visible item found
-					break;
+			range.startIndex = !inverse ? startIndex : otherIndex;
+			range.endIndex = !inverse ? otherIndex : startIndex;
+			range.rows = rows;
+			range.height = (itemHeight + 1) * rows - 1;
+		} else if (hasDifferingHeights) {
+			// rows are located through the row height index, the rules are the
+			// same as when adding row after row: another row is added if there is
+			// room for its separator line and at least one pixel row of it, or
+			// for the whole row if forceEndCompletelyInside is set
+			final FenwickTree rowHeights = getRowHeights();
+			int otherIndex;
+			if (!inverse) {
+				final int startTop = rowHeights.sum(startIndex);
+				if (!forceEndCompletelyInside) {
+					otherIndex = getRowAtOffset(startTop + availableHeight - 1);
+				} else {
+					final int limit = rowHeights.find(startTop + availableHeight + 1);
+					otherIndex = getRowAtOffset(rowHeights.sum(limit) - 1);
 				}
-
-				if (forceEndCompletelyInside) {
-					// must lie completely within the allowed height
-					if (!(consumedHeight + 1 + nextItem.getHeight() <= availableHeight)) {
-						break;
+				otherIndex = Math.max(otherIndex, startIndex);
+			} else {
+				final int startBottom = rowHeights.sum(startIndex + 1);
+				if (!forceEndCompletelyInside) {
+					otherIndex = getRowAtOffset(startBottom - availableHeight);
+				} else {
+					final int top = startBottom - 1 - availableHeight;
+					if (top <= 0) {
+						otherIndex = getRowAtOffset(0);
+					} else {
+						otherIndex = getRowAtOffset(rowHeights.sum(rowHeights.find(top - 1) + 1));
 					}
 				}
-
-				// we found one !!
-
-				// STEP 2:
-				// Consume height for this item
-
-				consumedItems++;
-				consumedHeight += 1; // height of separator line
-				consumedHeight += nextItem.getHeight();
-
-				// STEP 3:
-				// make this item it the current guess for the other end
-				otherIndex = nextIndex;
+				otherIndex = Math.min(otherIndex, startIndex);
 			}
 
 			range.startIndex = !inverse ? startIndex : otherIndex;
 			range.endIndex = !inverse ? otherIndex : startIndex;
-			range.rows = consumedItems;
-			range.height = consumedHeight;
+			range.rows = countVisibleRows(range.startIndex, range.endIndex);
+			range.height = rowHeights.sum(range.endIndex + 1) - rowHeights.sum(range.startIndex) - 1;
 		} else {
 			int availableRows = (availableHeight + 1) / (itemHeight + 1);
 
@@ -2839,14 +3083,6 @@ public class Grid extends Canvas {
 	int getGridHeight() {
 		final RowRange range = getRowRange(-1, -1);
 		return range != null ? range.height : 0;
-		/*
-		 * MOPR currently this method is only used in #getTableSize() ; if it will be
-		 * used for more important things in the future (e.g. the max value for
-		 * vScroll.setValues() when doing pixel-by-pixel vertical scrolling) then this
-		 * value should at least be cached or even updated incrementally when grid items
-		 * are added/removed or expaned/collapsed (similar as #currentVisibleItems).
-		 * (this is only necessary in the case (isTree || hasDifferingHeights))
-		 */
 	}
 
 	/**
@@ -3018,12 +3254,7 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return isSelected(items.get(index));
 		} else {
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.containsRow(index);
 		}
 	}
 
@@ -3049,18 +3280,13 @@ public class Grid extends Canvas {
 	public boolean isSelected(final GridItem item) {
 		checkWidget();
 		if (!cellSelectionEnabled) {
-			return selectedItems.contains(item);
+			return rowSelection.contains(item.getRowIndex());
 		} else {
 			final int index = item.getRowIndex();
 			if (index == -1) {
 				return false;
 			}
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.containsRow(index);
 		}
 	}
 
@@ -3089,7 +3315,7 @@ public class Grid extends Canvas {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 
-		return selectedCells.contains(cell);
+		return selectedCells.contains(cell.x, cell.y);
 	}
 
 	/**
@@ -3145,13 +3371,22 @@ public class Grid extends Canvas {
 	public void remove(final int start, final int end) {
 		checkWidget();
 
-		for (int i = end; i >= start; i--) {
-			if (i < 0 || i > items.size() - 1) {
-				SWT.error(SWT.ERROR_INVALID_RANGE);
-			}
-			final GridItem item = items.get(i);
-			item.dispose();
+		if (start > end) {
+			return;
+		}
+		if (start < 0 || end > items.size() - 1) {
+			SWT.error(SWT.ERROR_INVALID_RANGE);
+		}
+
+		final boolean[] marked = new boolean[items.size()];
+		Arrays.fill(marked, start, end + 1, true);
+		final GridEvents.RemoveItems event = new GridEvents.RemoveItems();
+		event.begin();
+		if (event.isEnabled()) {
+			event.previousRows = items.size();
 		}
+		removeItems(marked);
+		event.end(this);
 		redraw();
 	}
 
@@ -3182,19 +3417,21 @@ public class Grid extends Canvas {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 
-		final GridItem[] removeThese = new GridItem[indices.length];
-		for (int i = 0; i < indices.length; i++) {
-			final int j = indices[i];
-			if (j < items.size() && j >= 0) {
-				removeThese[i] = items.get(j);
+		final boolean[] marked = new boolean[items.size()];
+		for (final int index : indices) {
+			if (index < items.size() && index >= 0) {
+				marked[index] = true;
 			} else {
 				SWT.error(SWT.ERROR_INVALID_RANGE);
 			}
-
 		}
-		for (final GridItem item : removeThese) {
-			item.dispose();
+		final GridEvents.RemoveItems event = new GridEvents.RemoveItems();
+		event.begin();
+		if (event.isEnabled()) {
+			event.previousRows = items.size();
 		}
+		removeItems(marked);
+		event.end(this);
 		redraw();
 	}
 
@@ -3214,13 +3451,112 @@ public class Grid extends Canvas {
 	public void removeAll() {
 		checkWidget();
 
-		while (items.size() > 0) {
-			items.get(0).dispose();
+		if (items.size() > 0) {
+			final boolean[] marked = new boolean[items.size()];
+			Arrays.fill(marked, true);
+			final GridEvents.RemoveItems event = new GridEvents.RemoveItems();
+			event.begin();
+			if (event.isEnabled()) {
+				event.previousRows = items.size();
+			}
+			removeItems(marked);
+			event.end(this);
 		}
 		deselectAll();
 		redraw();
 	}
 
+	/**
+	 * Removes the marked items and all their descendants in a single pass.
+	 * Remaining rows are renumbered once, selection, cell selection and focus
+	 * are updated in bulk and the scrollbars are recomputed once at the end.
+	 *
+	 * @param marked
+	 *            flags indexed by row, true for items to remove
+	 */
+	private void removeItems(final boolean[] marked) {
+		final int size = items.size();
+
+		// disposing an item disposes its children too, so mark all descendants
+		// and remember the topmost removed items
+		final List<GridItem> removedRoots = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			if (marked[i]) {
+				final GridItem item = items.get(i);
+				removedRoots.add(item);
+				final int level = item.getLevel();
+				while (i + 1 < size && items.get(i + 1).getLevel() > level) {
+					marked[++i] = true;
+				}
+			}
+		}
+
+		if (removedRoots.isEmpty()) {
+			return;
+		}
+
+		int newSize = 0;
+		for (int i = 0; i < size; i++) {
+			final GridItem item = items.get(i);
+			if (marked[i]) {
+				if (item.isVisible()) {
+					currentVisibleItems--;
+				}
+			} else {
+				if (newSize != i) {
+					items.set(newSize, item);
+					item.setRowIndex(newSize);
+				}
+				newSize++;
+			}
+		}
+		items.subList(newSize, size).clear();
+		invalidateRowIndexes();
+		spanIndex.removeRows(removedRoots.get(0).getRowIndex(), size - newSize);
+
+		final int selectionSize = rowSelection.size();
+		rowSelection.delete(marked);
+
+		final Set<GridItem> parentItems = new HashSet<>();
+		for (final GridItem item : removedRoots) {
+			if (item.getParentItem() != null) {
+				parentItems.add(item.getParentItem());
+			}
+			item.disposeOnly();
+		}
+		for (final GridItem parentItem : parentItems) {
+			parentItem.removeDisposedChildren();
+		}
+		rootItems.removeIf(GridItem::isDisposed);
+
+		if (disposing) {
+			return;
+		}
+
+		boolean selectionModified = rowSelection.size() != selectionSize;
+
+		if (!selectedCells.isEmpty()) {
+			selectedCells.deleteRows(marked);
+			selectionModified = true;
+		}
+
+		if (focusItem != null && focusItem.isDisposed()) {
+			focusItem = null;
+		}
+
+		scrollValuesObsolete = true;
+		invalidateAutoHeights();
+		topIndex = -1;
+		bottomIndex = -1;
+
+		if (selectionModified) {
+			updateColumnSelection();
+		}
+
+		redraw();
+		updateScrollbars();
+	}
+
 	/**
 	 * All items needs to call the disposeOnly method
 	 */
@@ -3233,12 +3569,13 @@ public class Grid extends Canvas {
 		}
 		clearItems();
 		scrollValuesObsolete = true;
+		invalidateAutoHeights();
 		topIndex = -1;
 		bottomIndex = -1;
 		currentVisibleItems = 0;
 		updateColumnSelection();
 		focusItem = null;
-		selectedItems.clear();
+		rowSelection.clear();
 		redraw();
 		// Need to update the scrollbars see see 375327
 		updateScrollbars();
@@ -3305,32 +3642,34 @@ public class Grid extends Canvas {
 	 */
 	public void select(final int index) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!selectionEnabled) {
+				return;
+			}
 
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (index < 0 || index >= items.size()) {
-			return;
-		}
-
-		final GridItem item = items.get(index);
-
-		if (!cellSelectionEnabled) {
-			if (selectionType == GridSelectionType.MULTI && selectedItems.contains(item)) {
+			if (index < 0 || index >= items.size()) {
 				return;
 			}
 
-			if (selectionType == GridSelectionType.SINGLE) {
-				selectedItems.clear();
+			if (!cellSelectionEnabled) {
+				if (selectionType == GridSelectionType.MULTI && rowSelection.contains(index)) {
+					return;
+				}
+
+				if (selectionType == GridSelectionType.SINGLE) {
+					rowSelection.clear();
+				}
+
+				rowSelection.add(index);
+			} else {
+				selectCells(getCells(items.get(index)));
 			}
 
-			selectedItems.add(item);
-		} else {
-			selectCells(getCells(item));
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-
-		redraw();
 	}
 
 	/**
@@ -3361,41 +3700,40 @@ public class Grid extends Canvas {
 	 */
 	public void select(final int start, final int end) {
 		checkWidget();
-
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (selectionType == GridSelectionType.SINGLE && start != end) {
-			return;
-		}
-
-		if (!cellSelectionEnabled) {
-			if (selectionType == GridSelectionType.SINGLE) {
-				selectedItems.clear();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!selectionEnabled) {
+				return;
 			}
-		}
 
-		for (int i = start; i <= end; i++) {
-			if (i < 0) {
-				continue;
-			}
-			if (i > items.size() - 1) {
-				break;
+			if (selectionType == GridSelectionType.SINGLE && start != end) {
+				return;
 			}
 
-			final GridItem item = items.get(i);
-
 			if (!cellSelectionEnabled) {
-				if (!selectedItems.contains(item)) {
-					selectedItems.add(item);
+				if (selectionType == GridSelectionType.SINGLE) {
+					rowSelection.clear();
 				}
-			} else {
-				selectCells(getCells(item));
+				rowSelection.add(Math.max(start, 0), Math.min(end + 1, items.size()));
+				redraw();
+				return;
 			}
-		}
 
-		redraw();
+			for (int i = start; i <= end; i++) {
+				if (i < 0) {
+					continue;
+				}
+				if (i > items.size() - 1) {
+					break;
+				}
+
+				selectCells(getCells(items.get(i)));
+			}
+
+			redraw();
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -3427,39 +3765,39 @@ public class Grid extends Canvas {
 	 */
 	public void select(final int[] indices) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (indices == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			}
 
-		if (indices == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
-		}
-
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (selectionType == GridSelectionType.SINGLE && indices.length > 1) {
-			return;
-		}
+			if (!selectionEnabled) {
+				return;
+			}
 
-		if (!cellSelectionEnabled) {
-			if (selectionType == GridSelectionType.SINGLE) {
-				selectedItems.clear();
+			if (selectionType == GridSelectionType.SINGLE && indices.length > 1) {
+				return;
 			}
-		}
 
-		for (final int j : indices) {
-			if (j >= 0 && j < items.size()) {
-				final GridItem item = items.get(j);
+			if (!cellSelectionEnabled) {
+				if (selectionType == GridSelectionType.SINGLE) {
+					rowSelection.clear();
+				}
+			}
 
-				if (!cellSelectionEnabled) {
-					if (!selectedItems.contains(item)) {
-						selectedItems.add(item);
+			for (final int j : indices) {
+				if (j >= 0 && j < items.size()) {
+					if (!cellSelectionEnabled) {
+						rowSelection.add(j);
+					} else {
+						selectCells(getCells(items.get(j)));
 					}
-				} else {
-					selectCells(getCells(item));
 				}
 			}
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-		redraw();
 	}
 
 	/**
@@ -3478,23 +3816,26 @@ public class Grid extends Canvas {
 	 */
 	public void selectAll() {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!selectionEnabled) {
+				return;
+			}
 
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (selectionType == GridSelectionType.SINGLE) {
-			return;
-		}
+			if (selectionType == GridSelectionType.SINGLE) {
+				return;
+			}
 
-		if (cellSelectionEnabled) {
-			selectAllCells();
-			return;
-		}
+			if (cellSelectionEnabled) {
+				selectAllCells();
+				return;
+			}
 
-		selectedItems.clear();
-		selectedItems.addAll(items);
-		redraw();
+			rowSelection.add(0, items.size());
+			redraw();
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -3516,6 +3857,382 @@ public class Grid extends Canvas {
 		this.emptyCellRenderer = emptyCellRenderer;
 	}
 
+	/**
+	 * Returns the renderer painting the cells of rows whose data is still being
+	 * loaded by the asynchronous data provider.
+	 *
+	 * @return Returns the placeholder renderer.
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setAsyncDataProvider(GridAsyncDataProvider, Executor)
+	 */
+	public GridCellRenderer getPlaceholderRenderer() {
+		checkWidget();
+		return placeholderRenderer;
+	}
+
+	/**
+	 * Sets the renderer painting the cells of rows whose data is still being
+	 * loaded by the asynchronous data provider. The renderer should not read
+	 * the data of the item.
+	 *
+	 * @param placeholderRenderer
+	 *            The placeholder renderer to set.
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setAsyncDataProvider(GridAsyncDataProvider, Executor)
+	 */
+	public void setPlaceholderRenderer(final GridCellRenderer placeholderRenderer) {
+		checkWidget();
+		placeholderRenderer.setDisplay(getDisplay());
+		this.placeholderRenderer = placeholderRenderer;
+	}
+
+	/**
+	 * Sets the provider loading the data of the root items of a virtual grid
+	 * off the UI thread, replacing SWT.SetData for them. Rows becoming visible
+	 * are collected while painting and loaded in batches on the given
+	 * executor; meanwhile they are painted by the placeholder renderer. The
+	 * results of all batches finished since the last application are applied
+	 * in a single asyncExec, which redraws only the affected rows. Batches for
+	 * rows which have scrolled away are cancelled.
+	 * <p>
+	 * Until its data has arrived, a root item answers every caller with its
+	 * default values, e.g. an empty string from {@link GridItem#getText(int)},
+	 * including {@link GridColumn#pack()}, sorting and accessibility. Only
+	 * painting the item requests its data.
+	 * <p>
+	 * Child items of a tree are still filled by SWT.SetData. The provider has
+	 * no effect unless the receiver was created with SWT.VIRTUAL.
+	 *
+	 * @param provider
+	 *            the provider or null to go back to SWT.SetData
+	 * @param executor
+	 *            executor running the provider (e.g. one creating a virtual
+	 *            thread per task) or null to use a daemon thread owned by the
+	 *            receiver
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see GridAsyncDataProvider
+	 * @see #setPlaceholderRenderer(GridCellRenderer)
+	 */
+	public <T> void setAsyncDataProvider(final GridAsyncDataProvider<T> provider, final Executor executor) {
+		checkWidget();
+		if (asyncDataLoader != null) {
+			asyncDataLoader.dispose();
+			asyncDataLoader = null;
+		}
+		if (provider != null) {
+			asyncDataLoader = new GridAsyncDataLoader<>(this, provider, executor);
+		}
+		redraw();
+	}
+
+	/**
+	 * Returns the provider loading the data of the root items asynchronously.
+	 *
+	 * @return the provider or null if SWT.SetData is used
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setAsyncDataProvider(GridAsyncDataProvider, Executor)
+	 */
+	public GridAsyncDataProvider<?> getAsyncDataProvider() {
+		checkWidget();
+		return asyncDataLoader != null ? asyncDataLoader.getProvider() : null;
+	}
+
+	/**
+	 * Limits the data kept by a virtual grid. Once more rows have their data
+	 * than allowed, the rows painted least recently are evicted after each
+	 * paint: their values are cleared from the data visualizer and they are
+	 * requested again by SWT.SetData or the asynchronous data provider the next
+	 * time they are needed. Rows on screen are never evicted. The size of a row
+	 * is estimated from the lengths of its texts.
+	 * <p>
+	 * Only rows which received their data while a budget was set are counted.
+	 * The budget has no effect unless the receiver was created with
+	 * SWT.VIRTUAL.
+	 *
+	 * @param maxRows
+	 *            maximum number of rows with data, 0 for no limit
+	 * @param maxBytes
+	 *            maximum estimated size of the row data in bytes, 0 for no
+	 *            limit
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 */
+	public void setDataBudget(final int maxRows, final long maxBytes) {
+		checkWidget();
+		if (maxRows <= 0 && maxBytes <= 0 || (getStyle() & SWT.VIRTUAL) == 0) {
+			dataBudget = null;
+		} else {
+			dataBudget = new GridDataBudget(this, Math.max(maxRows, 0), Math.max(maxBytes, 0));
+		}
+	}
+
+	/**
+	 * Returns the maximum number of rows of a virtual grid which keep their
+	 * data.
+	 *
+	 * @return the maximum number of rows, 0 for no limit
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setDataBudget(int, long)
+	 */
+	public int getDataBudgetRows() {
+		checkWidget();
+		return dataBudget != null ? dataBudget.getMaxRows() : 0;
+	}
+
+	/**
+	 * Returns the maximum estimated size of the data kept by a virtual grid.
+	 *
+	 * @return the maximum size in bytes, 0 for no limit
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setDataBudget(int, long)
+	 */
+	public long getDataBudgetBytes() {
+		checkWidget();
+		return dataBudget != null ? dataBudget.getMaxBytes() : 0;
+	}
+
+	/**
+	 * Switches the receiver to streaming mode, in which it keeps only the given
+	 * number of most recent root items. Whenever more items are appended, the
+	 * oldest ones are disposed from the top in time proportional to the number
+	 * of dropped items, without renumbering the remaining rows. The view stays
+	 * on the rows it shows while rows are dropped above them, unless it
+	 * follows the tail, see {@link #setFollowTail(boolean)}.
+	 * <p>
+	 * Items appended in streaming mode are measured, scrolled and painted once
+	 * per frame instead of once per item. The mode is meant for flat grids, in
+	 * a tree the oldest root items are removed with their children by the
+	 * regular, linear removal.
+	 * <p>
+	 * While the stream is full, a root item can not be inserted at index 0,
+	 * because it would be the oldest item and dropped at once.
+	 *
+	 * @param capacity
+	 *            maximum number of root items, 0 to switch the streaming mode
+	 *            off
+	 * @throws IllegalArgumentException
+	 *             <ul>
+	 *             <li>ERROR_INVALID_ARGUMENT - if the capacity is negative</li>
+	 *             </ul>
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 */
+	public void setStreamingCapacity(final int capacity) {
+		checkWidget();
+		if (capacity < 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		streamingCapacity = capacity;
+		if (capacity > 0) {
+			// the item lists stop growing once they hold the capacity
+			scheduleStreamUpdate();
+			trimStream();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of root items kept in streaming mode.
+	 *
+	 * @return the capacity, 0 if the streaming mode is off
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setStreamingCapacity(int)
+	 */
+	public int getStreamingCapacity() {
+		checkWidget();
+		return streamingCapacity;
+	}
+
+	/**
+	 * Sets whether the receiver scrolls to the last item when items are
+	 * appended in streaming mode. Following pauses while the user has
+	 * scrolled away from the last item and resumes once it is visible again.
+	 * Setting it to true scrolls to the last item.
+	 *
+	 * @param followTail
+	 *            true to keep the newest item visible
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setStreamingCapacity(int)
+	 */
+	public void setFollowTail(final boolean followTail) {
+		checkWidget();
+		this.followTail = followTail;
+		if (followTail && !items.isEmpty()) {
+			showItem(items.get(items.size() - 1));
+		}
+	}
+
+	/**
+	 * Returns whether the receiver scrolls to the last item when items are
+	 * appended in streaming mode.
+	 *
+	 * @return true if the newest item is kept visible
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setFollowTail(boolean)
+	 */
+	public boolean getFollowTail() {
+		checkWidget();
+		return followTail;
+	}
+
+	/**
+	 * Schedules the update of the scrollbars and the repaint after items were
+	 * appended in streaming mode, once per frame.
+	 */
+	private void scheduleStreamUpdate() {
+		if (streamUpdateScheduled) {
+			return;
+		}
+		streamUpdateScheduled = true;
+		tailVisible = !vScroll.getVisible() || vScroll.getSelection() + vScroll.getThumb() >= vScroll.getMaximum();
+		getDisplay().asyncExec(this::updateStream);
+	}
+
+	/**
+	 * Measures the row header of the newest item, updates the scrollbars,
+	 * follows the tail and repaints after a frame of appends.
+	 */
+	private void updateStream() {
+		streamUpdateScheduled = false;
+		if (isDisposed()) {
+			return;
+		}
+		if (!items.isEmpty() && isRowHeaderVisible() && isAutoWidth()) {
+			// the newest row has the widest number
+			final GridItem last = items.get(items.size() - 1);
+			estimate(sizingGC -> rowHeaderWidth = Math.max(rowHeaderWidth, //
+					computeRendererSize(rowHeaderRenderer, sizingGC, SWT.DEFAULT, SWT.DEFAULT, last).x));
+		}
+		updateScrollbars();
+		if (followTail && tailVisible && !items.isEmpty()) {
+			showItem(items.get(items.size() - 1));
+		}
+		redraw();
+	}
+
+	/**
+	 * Drops the oldest root items exceeding the streaming capacity.
+	 */
+	private void trimStream() {
+		final int excess = rootItems.size() - streamingCapacity;
+		if (excess <= 0) {
+			return;
+		}
+		if (isTree) {
+			final int dropped = rootItems.get(excess).getRowIndex();
+			remove(0, dropped - 1);
+			droppedRows += dropped;
+			return;
+		}
+
+		int droppedPixels = 0;
+		for (int i = 0; i < excess; i++) {
+			final GridItem item = items.get(i);
+			if (item.isVisible()) {
+				currentVisibleItems--;
+				droppedPixels += item.getHeight() + 1;
+			}
+			if (focusItem == item) {
+				focusItem = null;
+			}
+			item.disposeOnly();
+		}
+		items.removeFirst(excess);
+		rootItems.removeFirst(excess);
+
+		// the remaining rows move up without being renumbered
+		droppedRows += excess;
+		rowBase += excess;
+		if (rowBase > MAX_ROW_BASE) {
+			rowBase = 0;
+			for (int i = 0; i < items.size(); i++) {
+				items.get(i).setRowIndex(i);
+			}
+		}
+		invalidateRowIndexes();
+		spanIndex.removeRows(0, excess);
+
+		final boolean selectionModified = !rowSelection.isEmpty() || !selectedCells.isEmpty();
+		rowSelection.deleteHead(excess);
+		selectedCells.deleteHeadRows(excess);
+		if (selectionModified) {
+			updateColumnSelection();
+		}
+
+		// keep the rows on screen where they are
+		if (vScroll.getVisible()) {
+			final int dropped = pixelScrolling ? droppedPixels : excess;
+			vScroll.setSelection(Math.max(vScroll.getSelection() - dropped, 0));
+		}
+		scrollValuesObsolete = true;
+		invalidateAutoHeights();
+		topIndex = -1;
+		bottomIndex = -1;
+	}
+
 	/**
 	 * Sets the empty column header renderer.
 	 *
@@ -3824,6 +4541,7 @@ public class Grid extends Canvas {
 			computeRowHeaderWidth(minWidth);
 		}
 
+		invalidateAutoHeights();
 		redraw();
 	}
 
@@ -3846,20 +4564,24 @@ public class Grid extends Canvas {
 	 */
 	public void setSelection(final int index) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!selectionEnabled) {
+				return;
+			}
 
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (index >= 0 && index < items.size()) {
-			if (!cellSelectionEnabled) {
-				selectedItems.clear();
-				selectedItems.add(items.get(index));
-				redraw();
-			} else {
-				selectedCells.clear();
-				selectCells(getCells(items.get(index)));
+			if (index >= 0 && index < items.size()) {
+				if (!cellSelectionEnabled) {
+					rowSelection.clear();
+					rowSelection.add(index);
+					redraw();
+				} else {
+					selectedCells.clear();
+					selectCells(getCells(items.get(index)));
+				}
 			}
+		} finally {
+			endSelection(event);
 		}
 	}
 
@@ -3890,38 +4612,37 @@ public class Grid extends Canvas {
 	 */
 	public void setSelection(final int start, final int end) {
 		checkWidget();
-
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (selectionType == GridSelectionType.SINGLE && start != end) {
-			return;
-		}
-
-		if (!cellSelectionEnabled) {
-			selectedItems.clear();
-		} else {
-			selectedCells.clear();
-		}
-
-		for (int i = start; i <= end; i++) {
-			if (i < 0) {
-				continue;
-			}
-			if (i > items.size() - 1) {
-				break;
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!selectionEnabled) {
+				return;
 			}
 
-			final GridItem item = items.get(i);
+			if (selectionType == GridSelectionType.SINGLE && start != end) {
+				return;
+			}
 
 			if (!cellSelectionEnabled) {
-				selectedItems.add(item);
+				rowSelection.clear();
+				rowSelection.add(Math.max(start, 0), Math.min(end + 1, items.size()));
 			} else {
-				selectCells(getCells(item));
+				selectedCells.clear();
+
+				for (int i = start; i <= end; i++) {
+					if (i < 0) {
+						continue;
+					}
+					if (i > items.size() - 1) {
+						break;
+					}
+
+					selectCells(getCells(items.get(i)));
+				}
 			}
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-		redraw();
 	}
 
 	/**
@@ -3973,38 +4694,40 @@ public class Grid extends Canvas {
 	 */
 	public void setSelection(final int[] indices) {
 		checkWidget();
-
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (selectionType == GridSelectionType.SINGLE && indices.length > 1) {
-			return;
-		}
-
-		if (!cellSelectionEnabled) {
-			selectedItems.clear();
-		} else {
-			selectedCells.clear();
-		}
-
-		for (final int j : indices) {
-			if (j < 0) {
-				continue;
-			}
-			if (j > items.size() - 1) {
-				break;
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!selectionEnabled) {
+				return;
 			}
 
-			final GridItem item = items.get(j);
+			if (selectionType == GridSelectionType.SINGLE && indices.length > 1) {
+				return;
+			}
 
 			if (!cellSelectionEnabled) {
-				selectedItems.add(item);
+				rowSelection.clear();
 			} else {
-				selectCells(getCells(item));
+				selectedCells.clear();
+			}
+
+			for (final int j : indices) {
+				if (j < 0) {
+					continue;
+				}
+				if (j > items.size() - 1) {
+					break;
+				}
+
+				if (!cellSelectionEnabled) {
+					rowSelection.add(j);
+				} else {
+					selectCells(getCells(items.get(j)));
+				}
 			}
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-		redraw();
 	}
 
 	/**
@@ -4036,44 +4759,48 @@ public class Grid extends Canvas {
 	 */
 	public void setSelection(final GridItem[] _items) {
 		checkWidget();
-
-		if (!selectionEnabled) {
-			return;
-		}
-
-		if (_items == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
-		}
-
-		if (selectionType == GridSelectionType.SINGLE && _items.length > 1) {
-			return;
-		}
-
-		if (!cellSelectionEnabled) {
-			selectedItems.clear();
-		} else {
-			selectedCells.clear();
-		}
-
-		for (final GridItem item : _items) {
-			if (item == null) {
-				continue;
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!selectionEnabled) {
+				return;
 			}
-			if (item.isDisposed()) {
-				SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+
+			if (_items == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
 			}
-			if (item.getParent() != this) {
-				continue;
+
+			if (selectionType == GridSelectionType.SINGLE && _items.length > 1) {
+				return;
 			}
 
 			if (!cellSelectionEnabled) {
-				selectedItems.add(item);
+				rowSelection.clear();
 			} else {
-				selectCells(getCells(item));
+				selectedCells.clear();
 			}
-		}
 
-		redraw();
+			for (final GridItem item : _items) {
+				if (item == null) {
+					continue;
+				}
+				if (item.isDisposed()) {
+					SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+				}
+				if (item.getParent() != this) {
+					continue;
+				}
+
+				if (!cellSelectionEnabled) {
+					rowSelection.add(item.getRowIndex());
+				} else {
+					selectCells(getCells(item));
+				}
+			}
+
+			redraw();
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -4106,12 +4833,11 @@ public class Grid extends Canvas {
 			return;
 		}
 
-		int vScrollAmount = 0;
-
-		for (int i = 0; i < index; i++) {
-			if (items.get(i).isVisible()) {
-				vScrollAmount++;
-			}
+		final int vScrollAmount;
+		if (pixelScrolling) {
+			vScrollAmount = getRowPixel(index);
+		} else {
+			vScrollAmount = isTree ? getVisibleRows().sum(index) : index;
 		}
 
 		vScroll.setSelection(vScrollAmount);
@@ -4277,6 +5003,10 @@ public class Grid extends Canvas {
 		final int firstVisibleIndex = getTopIndex();
 		final int lastVisibleIndex = getBottomIndex();
 
+		if (itemIndex == firstVisibleIndex && getTopRowOffset() > 0) {
+			return false;
+		}
+
 		return itemIndex >= firstVisibleIndex && itemIndex < lastVisibleIndex
 				|| itemIndex == lastVisibleIndex && bottomIndexShownCompletely;
 	}
@@ -4354,18 +5084,19 @@ public class Grid extends Canvas {
 		}
 
 		if (!cellSelectionEnabled) {
-			if (selectedItems.size() == 0) {
+			if (rowSelection.isEmpty()) {
 				return;
 			}
 
-			showItem(selectedItems.get(0));
+			showItem(items.get(rowSelection.next(0)));
 		} else {
-			if (selectedCells.size() == 0) {
+			if (selectedCells.isEmpty()) {
 				return;
 			}
 
-			showItem(getItem(selectedCells.get(0).y));
-			showColumn(getColumn(selectedCells.get(0).x));
+			final Point cell = selectedCells.first();
+			showItem(getItem(cell.y));
+			showColumn(getColumn(cell.x));
 		}
 
 	}
@@ -4388,7 +5119,7 @@ public class Grid extends Canvas {
 		checkWidget();
 
 		if (!selectionEnabled) {
-			selectedItems.clear();
+			rowSelection.clear();
 			redraw();
 		}
 
@@ -4429,7 +5160,8 @@ public class Grid extends Canvas {
 
 		int groupHeight = 0;
 		for (final GridColumnGroup group : columnGroups) {
-			groupHeight = Math.max(group.getHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, group).y,
+			groupHeight = Math.max(computeRendererSize(group.getHeaderRenderer(), gc,
+					SWT.DEFAULT, SWT.DEFAULT, group).y,
 					groupHeight);
 		}
 
@@ -4471,11 +5203,12 @@ public class Grid extends Canvas {
 
 		for (final GridColumn column : columns) {
 			column.getCellRenderer().setColumn(column.index);
-			height = Math.max(height, column.getCellRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).y);
+			height = Math.max(height, computeRendererSize(column.getCellRenderer(), gc,
+					SWT.DEFAULT, SWT.DEFAULT, item).y);
 		}
 
 		if (rowHeaderVisible && rowHeaderRenderer != null) {
-			height = Math.max(height, rowHeaderRenderer.computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).y);
+			height = Math.max(height, computeRendererSize(rowHeaderRenderer, gc, SWT.DEFAULT, SWT.DEFAULT, item).y);
 		}
 
 		return height <= 0 ? 16 : height;
@@ -4505,20 +5238,8 @@ public class Grid extends Canvas {
 		if (rowHeaderVisible) {
 			x += rowHeaderWidth;
 		}
-		for (final GridColumn column2 : displayOrderedColumns) {
-
-			if (!column2.isVisible()) {
-				continue;
-			}
-
-			if (column2 == column) {
-				break;
-			}
-
-			x += column2.getWidth();
-		}
 
-		return x;
+		return x + getColumnOffset(column);
 	}
 
 	/**
@@ -4567,11 +5288,8 @@ public class Grid extends Canvas {
 			x += rowHeaderWidth;
 		}
 
-		for (final GridColumn column : columns) {
-			if (column.isVisible()) {
-				x += column.getWidth();
-			}
-		}
+		final int[] offsets = getColumnOffsets();
+		x += offsets[offsets.length - 1];
 
 		return new Point(x, y);
 	}
@@ -4920,6 +5638,7 @@ public class Grid extends Canvas {
 
 		columnBeingResized.setWidth(newWidth, false);
 		scrollValuesObsolete = true;
+		invalidateAutoHeights();
 
 		final Rectangle clientArea = getClientArea();
 		redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
@@ -5026,13 +5745,20 @@ public class Grid extends Canvas {
 
 			x2 -= getHScrollSelectionInPixels();
 
-			for (final GridColumn column : displayOrderedColumns) {
+			// right edges grow in display order, so start at the first column
+			// which can be within the threshold and stop after passing it
+			final int[] offsets = getColumnOffsets();
+			for (int i = getDisplayIndexAfter(x - x2 - COLUMN_RESIZER_THRESHOLD - 1); i < displayOrderedColumns.size(); i++) {
+				final GridColumn column = displayOrderedColumns.get(i);
 				if (!column.isVisible()) {
 					continue;
 				}
-				x2 += column.getWidth();
+				final int right = x2 + offsets[i + 1];
+				if (right > x + COLUMN_RESIZER_THRESHOLD) {
+					break;
+				}
 
-				if (x2 >= x - COLUMN_RESIZER_THRESHOLD && x2 <= x + COLUMN_RESIZER_THRESHOLD) {
+				if (right >= x - COLUMN_RESIZER_THRESHOLD) {
 					if (column.getResizeable()) {
 						if (column.getColumnGroup() != null && y <= groupHeaderHeight) {
 							// if this is not the last column
@@ -5151,11 +5877,88 @@ public class Grid extends Canvas {
 		final GridItem item = getItem(point);
 		final GridColumn column = getColumn(point);
 
-		if (item != null && column != null) {
-			return new Point(column.index, item.getRowIndex());
+		if (item != null && column != null) {
+			return new Point(column.index, item.getRowIndex());
+		}
+
+		return null;
+	}
+
+	/**
+	 * Paints, collecting paint statistics if anybody listens for them.
+	 *
+	 * @param e
+	 *            paint event
+	 */
+	private void onPaint(final PaintEvent e) {
+		final GridEvents.Paint event = new GridEvents.Paint();
+		event.begin();
+		event.paintEvent = e;
+		painting = true;
+		if (paintStatsListeners == null) {
+			try {
+				paintFrame(e);
+			} finally {
+				painting = false;
+			}
+			event.end(this);
+			return;
+		}
+
+		final TextMetricsCache textMetrics = TextMetricsCache.get(getDisplay());
+		final long textHits = textMetrics.getHitCount();
+		final long textMisses = textMetrics.getMissCount();
+		final GridPaintStats stats = new GridPaintStats(this);
+		final long start = System.nanoTime();
+		paintStats = stats;
+		try {
+			paintFrame(e);
+		} finally {
+			paintStats = null;
+			painting = false;
+		}
+		stats.totalNanos = System.nanoTime() - start;
+		event.end(this);
+		stats.nativeTextMeasurements = textMetrics.getMissCount() - textMisses;
+		stats.textMeasurements = textMetrics.getHitCount() - textHits + stats.nativeTextMeasurements;
+
+		for (final GridPaintStatsListener listener : paintStatsListeners
+				.toArray(new GridPaintStatsListener[paintStatsListeners.size()])) {
+			listener.framePainted(stats);
+		}
+	}
+
+	/**
+	 * Paints with the given renderer, counting the call in the paint statistics.
+	 *
+	 * @param renderer
+	 * @param gc
+	 * @param value
+	 */
+	private void paintRenderer(final IRenderer renderer, final GC gc, final Object value) {
+		if (paintStats != null) {
+			paintStats.rendererPaints++;
 		}
+		renderer.paint(gc, value);
+	}
 
-		return null;
+	/**
+	 * Computes the size with the given renderer, counting the call in the paint
+	 * statistics if it is made while painting.
+	 *
+	 * @param renderer
+	 * @param gc
+	 * @param wHint
+	 * @param hHint
+	 * @param value
+	 * @return the size computed by the renderer
+	 */
+	Point computeRendererSize(final IRenderer renderer, final GC gc, final int wHint, final int hHint,
+			final Object value) {
+		if (paintStats != null) {
+			paintStats.rendererComputeSizes++;
+		}
+		return renderer.computeSize(gc, wHint, hHint, value);
 	}
 
 	/**
@@ -5164,13 +5967,13 @@ public class Grid extends Canvas {
 	 * @param e
 	 *            paint event
 	 */
-	private void onPaint(final PaintEvent e) {
+	private void paintFrame(final PaintEvent e) {
+		final GridPaintStats stats = paintStats;
 		int insertMarkPosX1 = -1; // we will populate these values while drawing the cells
 		int insertMarkPosX2 = -1;
 		int insertMarkPosY = -1;
 		boolean insertMarkPosFound = false;
 
-		final GridCellSpanManager cellSpanManager = new GridCellSpanManager();
 		final Rectangle originalClipping = e.gc.getClipping();
 
 		e.gc.setBackground(getBackground());
@@ -5181,16 +5984,46 @@ public class Grid extends Canvas {
 			scrollValuesObsolete = false;
 		}
 
+		final Rectangle clientArea = getClientArea();
+		final Rectangle damage = new Rectangle(e.x, e.y, e.width, e.height);
+
+		final long layoutStart = stats != null ? System.nanoTime() : 0;
+		final boolean heightsChanged = updateAutoHeights();
+		if (stats != null) {
+			stats.layoutNanos = System.nanoTime() - layoutStart;
+		}
+		if (heightsChanged) {
+			topIndex = -1;
+			bottomIndex = -1;
+			updateScrollbars();
+			if (!damage.intersection(clientArea).equals(clientArea)) {
+				// rows below the changed ones have moved
+				redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
+			}
+		}
+		final int scrollX = getHScrollSelectionInPixels();
+		final int scrollY = getVScrollSelectionInPixels();
+		if (scrollX != paintedScrollX || scrollY != paintedScrollY) {
+			if (!damage.intersection(clientArea).equals(clientArea)) {
+				// the rest of the client area shows the previous scroll position
+				redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
+			}
+			paintedScrollX = scrollX;
+			paintedScrollY = scrollY;
+		}
+
 		int x = 0;
 		int y = 0;
 
 		if (columnHeadersVisible) {
-			paintHeader(e.gc);
+			// the header is painted after the rows as it covers a partly visible
+			// top row
 			y += headerHeight;
 		}
 
-		final Rectangle clientArea = getClientArea();
-		final int availableHeight = clientArea.height - y;
+		final int topRowOffset = getTopRowOffset();
+		final int availableHeight = clientArea.height - y + topRowOffset;
+		y -= topRowOffset;
 		int visibleRows = availableHeight / itemHeight + 1;
 		if (items.size() > 0 && availableHeight > 0) {
 			final RowRange range = getRowRange(getTopIndex(), availableHeight, false, false);
@@ -5204,43 +6037,26 @@ public class Grid extends Canvas {
 		final int firstVisibleIndex = getTopIndex();
 		int firstItemToDraw = firstVisibleIndex;
 
-		if (hasSpanning) {
-			// We need to find the first Item to draw. An earlier item can row-span the
-			// first visible item.
-			for (int rowIndex = 0; rowIndex < firstVisibleIndex && rowIndex < items.size(); rowIndex++) {
-				int colIndex = 0;
-
-				int maxRowSpanForItem = 0;
-				for (final GridColumn column : displayOrderedColumns) {
-
-					if (!column.isVisible()) {
-						colIndex++;
-						continue;
-					}
-
-					final int rowSpan = items.get(rowIndex).getRowSpan(colIndex);
-					maxRowSpanForItem = rowSpan > maxRowSpanForItem ? rowSpan : maxRowSpanForItem;
-					colIndex++;
-				}
-
-				if (rowIndex + maxRowSpanForItem >= firstVisibleIndex) {
-					firstItemToDraw = rowIndex;
-					break;
-				} else {
-					rowIndex += maxRowSpanForItem;
-				}
-			}
+		if (dataVisualizer.hasComputedSpans() && items.size() > 0
+				&& spanIndex.scan(firstVisibleIndex, Math.min(getBottomIndex(), items.size() - 1))) {
+			hasSpanning = true;
+		}
 
-			for (int rowIndex = firstItemToDraw; rowIndex < firstVisibleIndex && rowIndex < items.size(); rowIndex++) {
-				final GridItem itemForRow = items.get(rowIndex);
-				if (itemForRow.isVisible()) {
-					y = y - itemForRow.getHeight() - 1;
-				}
-			}
+		if (hasSpanning) {
+			// an earlier item can row-span the first visible item
+			firstItemToDraw = spanIndex.getFirstSpanningRow(firstVisibleIndex);
+			y -= getRowPixel(firstVisibleIndex) - getRowPixel(firstItemToDraw);
 		}
 
+		// without spanning, columns left of the damaged area are not painted at
+		// all, so start with the first column which reaches into it
+		final int firstColumnToDraw = hasSpanning ? 0
+				: getDisplayIndexAfter(damage.x - (rowHeaderVisible ? rowHeaderWidth : 0) + scrollX - 1);
+		final int firstColumnX = getColumnOffsets()[firstColumnToDraw];
+
 		int row = firstItemToDraw;
 
+		final long rowsStart = stats != null ? System.nanoTime() : 0;
 		for (int i = 0; i < visibleRows + firstVisibleIndex - firstItemToDraw; i++) {
 
 			x = 0;
@@ -5261,9 +6077,25 @@ public class Grid extends Canvas {
 				item = null;
 			}
 
-			if (item != null) {
+			if (item != null && dataBudget != null) {
+				// on screen even if outside of the damaged area
+				dataBudget.painted(item);
+			}
+
+			if (item != null && !hasSpanning
+					&& (y + item.getHeight() + 1 < damage.y || y - 1 > damage.y + damage.height)) {
+				// the row is outside of the damaged area, e.g. after scrolling
+				y += item.getHeight() + 1;
+			} else if (item != null) {
 				boolean cellInRowSelected = false;
 
+				// rows waiting for asynchronously loaded data get placeholders
+				boolean placeholder = false;
+				if (asyncDataLoader != null) {
+					item.handleVirtual();
+					placeholder = item.isDataPending();
+				}
+
 				if (rowHeaderVisible) {
 
 					// row header is actually painted later
@@ -5272,37 +6104,29 @@ public class Grid extends Canvas {
 
 				final int focusY = y;
 
-				int colIndex = 0;
+				x += firstColumnX;
+				int colIndex = firstColumnToDraw;
 
 				// draw regular cells for each column
-				for (final GridColumn column : displayOrderedColumns) {
+				for (int displayIndex = firstColumnToDraw; displayIndex < displayOrderedColumns.size(); displayIndex++) {
+					final GridColumn column = displayOrderedColumns.get(displayIndex);
 
-					final boolean skipCell = cellSpanManager.skipCell(colIndex, row);
 					final int indexOfColumn = column.index;
 
 					if (!column.isVisible()) {
 						colIndex++;
-						if (skipCell) {
-							cellSpanManager.consumeCell(colIndex, row);
-						}
 						continue;
 					}
 
-					final int width = item.getCellSize(indexOfColumn).x;
-
-					if (skipCell == false) {
-
-						final int nrRowsToSpan = item.getRowSpan(indexOfColumn);
-						final int nrColumnsToSpan = item.getColumnSpan(indexOfColumn);
-
-						if (nrRowsToSpan > 0 || nrColumnsToSpan > 0) {
-							cellSpanManager.addCellSpanInfo(colIndex, row, nrColumnsToSpan, nrRowsToSpan);
-						}
-
-						if (x + width >= 0 && x < clientArea.width) {
-							final Point sizeOfColumn = item.getCellSize(indexOfColumn);
+					// cells covered by a span of another cell are not painted
+					if (!hasSpanning || !spanIndex.isCovered(colIndex, row)) {
+						final Point sizeOfColumn = item.getCellSize(indexOfColumn);
+						final int width = sizeOfColumn.x;
 
-							column.getCellRenderer().setBounds(x, y, width, sizeOfColumn.y);
+						if (x + width >= damage.x && x < damage.x + damage.width) {
+							final GridCellRenderer cellRenderer = placeholder ? placeholderRenderer
+									: column.getCellRenderer();
+							cellRenderer.setBounds(x, y, width, sizeOfColumn.y);
 							final int cellInHeaderDelta = columnHeadersVisible ? headerHeight - y : 0;
 							if (cellInHeaderDelta > 0) {
 								final Rectangle cellRect = new Rectangle(x - 1, y + cellInHeaderDelta, width + 1,
@@ -5313,33 +6137,35 @@ public class Grid extends Canvas {
 								e.gc.setClipping(originalClipping.intersection(cellRect));
 							}
 
-							column.getCellRenderer().setRow(i + 1);
+							cellRenderer.setRow(i + 1);
 
-							column.getCellRenderer().setSelected(selectedItems.contains(item));
-							column.getCellRenderer().setFocus(isFocusControl());
-							column.getCellRenderer().setRowFocus(focusItem == item);
-							column.getCellRenderer()
-							.setCellFocus(cellSelectionEnabled && focusItem == item && focusColumn == column);
+							cellRenderer.setSelected(rowSelection.contains(row));
+							cellRenderer.setFocus(isFocusControl());
+							cellRenderer.setRowFocus(focusItem == item);
+							cellRenderer.setCellFocus(cellSelectionEnabled && focusItem == item && focusColumn == column);
 
-							column.getCellRenderer().setRowHover(hoveringItem == item);
-							column.getCellRenderer().setColumnHover(hoveringColumn == column);
+							cellRenderer.setRowHover(hoveringItem == item);
+							cellRenderer.setColumnHover(hoveringColumn == column);
 
-							column.getCellRenderer().setColumn(indexOfColumn);
+							cellRenderer.setColumn(indexOfColumn);
 
-							if (selectedCells.contains(new Point(indexOfColumn, row))) {
-								column.getCellRenderer().setCellSelected(true);
+							if (selectedCells.contains(indexOfColumn, row)) {
+								cellRenderer.setCellSelected(true);
 								cellInRowSelected = true;
 							} else {
-								column.getCellRenderer().setCellSelected(false);
+								cellRenderer.setCellSelected(false);
 							}
 
 							if (hoveringItem == item && hoveringColumn == column) {
-								column.getCellRenderer().setHoverDetail(hoveringDetail);
+								cellRenderer.setHoverDetail(hoveringDetail);
 							} else {
-								column.getCellRenderer().setHoverDetail("");
+								cellRenderer.setHoverDetail("");
 							}
 
-							column.getCellRenderer().paint(e.gc, item);
+							paintRenderer(cellRenderer, e.gc, item);
+							if (stats != null) {
+								stats.cells++;
+							}
 
 							e.gc.setClipping((Rectangle) null);
 
@@ -5368,8 +6194,6 @@ public class Grid extends Canvas {
 								insertMarkPosFound = true;
 							}
 						}
-					} else {
-						cellSpanManager.consumeCell(colIndex, row);
 					}
 					if(x > clientArea.width) {
 						break;
@@ -5385,28 +6209,32 @@ public class Grid extends Canvas {
 						insertMarkPosX2 = x;
 					}
 
-					emptyCellRenderer.setSelected(selectedItems.contains(item));
+					emptyCellRenderer.setSelected(rowSelection.contains(row));
 					emptyCellRenderer.setFocus(isFocusControl());
 					emptyCellRenderer.setRow(i + 1);
 					emptyCellRenderer.setBounds(x, y, clientArea.width - x + 1, item.getHeight());
 					emptyCellRenderer.setColumn(getColumnCount());
-					emptyCellRenderer.paint(e.gc, item);
+					paintRenderer(emptyCellRenderer, e.gc, item);
 				}
 
 				x = 0;
 
 				if (rowHeaderVisible) {
+					final long rowHeaderStart = stats != null ? System.nanoTime() : 0;
 
 					if (!cellSelectionEnabled) {
-						rowHeaderRenderer.setSelected(selectedItems.contains(item));
+						rowHeaderRenderer.setSelected(rowSelection.contains(row));
 					} else {
 						rowHeaderRenderer.setSelected(cellInRowSelected);
 					}
-					if (!columnHeadersVisible || y >= headerHeight) {
+					if (!columnHeadersVisible || y + item.getHeight() + 1 > headerHeight) {
 						rowHeaderRenderer.setBounds(0, y, rowHeaderWidth, item.getHeight() + 1);
-						rowHeaderRenderer.paint(e.gc, item);
+						paintRenderer(rowHeaderRenderer, e.gc, item);
 					}
 					x += rowHeaderWidth;
+					if (stats != null) {
+						stats.rowHeadersNanos += System.nanoTime() - rowHeaderStart;
+					}
 				}
 
 				// focus
@@ -5419,12 +6247,15 @@ public class Grid extends Canvas {
 							}
 							focusRenderer.setBounds(focusX, focusY - 1, clientArea.width - focusX - 1,
 									item.getHeight() + 1);
-							focusRenderer.paint(e.gc, item);
+							paintRenderer(focusRenderer, e.gc, item);
 						}
 					}
 				}
 
 				y += item.getHeight() + 1;
+				if (stats != null) {
+					stats.rows++;
+				}
 			} else {
 
 				if (rowHeaderVisible) {
@@ -5437,14 +6268,16 @@ public class Grid extends Canvas {
 				emptyCellRenderer.setSelected(false);
 				emptyCellRenderer.setRow(i + 1);
 
-				for (final GridColumn column : displayOrderedColumns) {
+				x += firstColumnX;
+				for (int displayIndex = firstColumnToDraw; displayIndex < displayOrderedColumns.size(); displayIndex++) {
+					final GridColumn column = displayOrderedColumns.get(displayIndex);
 
 					if (column.isVisible()) {
 						final int width = column.width;
 						if(x + width >= 0) {
 							emptyCellRenderer.setBounds(x, y, width, itemHeight);
 							emptyCellRenderer.setColumn(column.index);
-							emptyCellRenderer.paint(e.gc, this);
+							paintRenderer(emptyCellRenderer, e.gc, this);
 						}
 						if(x > clientArea.width) {
 							break;
@@ -5456,23 +6289,41 @@ public class Grid extends Canvas {
 				if (x < clientArea.width) {
 					emptyCellRenderer.setBounds(x, y, clientArea.width - x + 1, itemHeight);
 					emptyCellRenderer.setColumn(getColumnCount());
-					emptyCellRenderer.paint(e.gc, this);
+					paintRenderer(emptyCellRenderer, e.gc, this);
 				}
 
 				x = 0;
 
 				if (rowHeaderVisible) {
+					final long rowHeaderStart = stats != null ? System.nanoTime() : 0;
 					emptyRowHeaderRenderer.setBounds(x, y, rowHeaderWidth, itemHeight + 1);
-					emptyRowHeaderRenderer.paint(e.gc, this);
+					paintRenderer(emptyRowHeaderRenderer, e.gc, this);
 
 					x += rowHeaderWidth;
+					if (stats != null) {
+						stats.rowHeadersNanos += System.nanoTime() - rowHeaderStart;
+					}
 				}
 
 				y += itemHeight + 1;
+				if (stats != null) {
+					stats.rows++;
+				}
 			}
 
 			row++;
 		}
+		if (stats != null) {
+			stats.cellsNanos = System.nanoTime() - rowsStart - stats.rowHeadersNanos;
+		}
+
+		if (columnHeadersVisible) {
+			final long headerStart = stats != null ? System.nanoTime() : 0;
+			paintHeader(e.gc);
+			if (stats != null) {
+				stats.headerNanos = System.nanoTime() - headerStart;
+			}
+		}
 
 		// draw drop point
 		if (draggingColumn) {
@@ -5485,13 +6336,13 @@ public class Grid extends Canvas {
 					x = getColumnHeaderXPosition(dragDropAfterColumn) + dragDropAfterColumn.getWidth();
 				}
 
-				final Point size = dropPointRenderer.computeSize(e.gc, SWT.DEFAULT, SWT.DEFAULT, null);
+				final Point size = computeRendererSize(dropPointRenderer, e.gc, SWT.DEFAULT, SWT.DEFAULT, null);
 				x -= size.x / 2;
 				if (x < 0) {
 					x = 0;
 				}
 				dropPointRenderer.setBounds(x - 1, headerHeight + DROP_POINT_LOWER_OFFSET, size.x, size.y);
-				dropPointRenderer.paint(e.gc, null);
+				paintRenderer(dropPointRenderer, e.gc, null);
 			}
 		}
 
@@ -5505,7 +6356,15 @@ public class Grid extends Canvas {
 		}
 
 		if (columnFootersVisible) {
+			final long footerStart = stats != null ? System.nanoTime() : 0;
 			paintFooter(e.gc);
+			if (stats != null) {
+				stats.footerNanos = System.nanoTime() - footerStart;
+			}
+		}
+
+		if (dataBudget != null) {
+			dataBudget.frameDone();
 		}
 	}
 
@@ -5596,7 +6455,20 @@ public class Grid extends Canvas {
 
 		GridColumnGroup previousPaintedGroup = null;
 
-		for (final GridColumn column : displayOrderedColumns) {
+		// skip the columns scrolled out to the left, but keep the whole group of
+		// the first painted column as its header starts at the first member
+		int firstColumn = getDisplayIndexAfter(getHScrollSelectionInPixels() - 1);
+		if (firstColumn < displayOrderedColumns.size()) {
+			final GridColumnGroup group = displayOrderedColumns.get(firstColumn).getColumnGroup();
+			while (group != null && firstColumn > 0
+					&& displayOrderedColumns.get(firstColumn - 1).getColumnGroup() == group) {
+				firstColumn--;
+			}
+		}
+		x += getColumnOffsets()[firstColumn];
+
+		for (int displayIndex = firstColumn; displayIndex < displayOrderedColumns.size(); displayIndex++) {
+			final GridColumn column = displayOrderedColumns.get(displayIndex);
 			if (x > getClientArea().width) {
 				break;
 			}
@@ -5612,9 +6484,10 @@ public class Grid extends Canvas {
 				if (column.getColumnGroup() != previousPaintedGroup) {
 					int width = column.getWidth();
 
+					int nextIndex = displayIndex + 1;
 					GridColumn nextCol = null;
-					if (displayOrderedColumns.indexOf(column) + 1 < displayOrderedColumns.size()) {
-						nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(column) + 1);
+					if (nextIndex < displayOrderedColumns.size()) {
+						nextCol = displayOrderedColumns.get(nextIndex);
 					}
 
 					while (nextCol != null && nextCol.getColumnGroup() == column.getColumnGroup()) {
@@ -5625,8 +6498,8 @@ public class Grid extends Canvas {
 							width += nextCol.getWidth();
 						}
 
-						if (displayOrderedColumns.indexOf(nextCol) + 1 < displayOrderedColumns.size()) {
-							nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(nextCol) + 1);
+						if (++nextIndex < displayOrderedColumns.size()) {
+							nextCol = displayOrderedColumns.get(nextIndex);
 						} else {
 							nextCol = null;
 						}
@@ -5649,7 +6522,7 @@ public class Grid extends Canvas {
 
 					column.getColumnGroup().getHeaderRenderer().setBounds(x, 0, width, groupHeaderHeight);
 
-					column.getColumnGroup().getHeaderRenderer().paint(gc, column.getColumnGroup());
+					paintRenderer(column.getColumnGroup().getHeaderRenderer(), gc, column.getColumnGroup());
 
 					previousPaintedGroup = column.getColumnGroup();
 				}
@@ -5676,7 +6549,7 @@ public class Grid extends Canvas {
 			}
 
 			if (x + column.getWidth() >= 0) {
-				column.getHeaderRenderer().paint(gc, column);
+				paintRenderer(column.getHeaderRenderer(), gc, column);
 			}
 
 			x += column.getWidth();
@@ -5684,7 +6557,7 @@ public class Grid extends Canvas {
 
 		if (x < getClientArea().width) {
 			emptyColumnHeaderRenderer.setBounds(x, 0, getClientArea().width - x, headerHeight);
-			emptyColumnHeaderRenderer.paint(gc, null);
+			paintRenderer(emptyColumnHeaderRenderer, gc, null);
 		}
 
 		x = 0;
@@ -5692,7 +6565,7 @@ public class Grid extends Canvas {
 		if (rowHeaderVisible) {
 			// paint left corner
 			topLeftRenderer.setBounds(0, 0, rowHeaderWidth, headerHeight);
-			topLeftRenderer.paint(gc, this);
+			paintRenderer(topLeftRenderer, gc, this);
 			x += rowHeaderWidth;
 		}
 
@@ -5715,7 +6588,7 @@ public class Grid extends Canvas {
 			columnBeingPushed.getHeaderRenderer().setBounds(
 					getColumnHeaderXPosition(columnBeingPushed) + currentHeaderDragX - startHeaderDragX, y,
 					columnBeingPushed.getWidth(), height);
-			columnBeingPushed.getHeaderRenderer().paint(gc, columnBeingPushed);
+			paintRenderer(columnBeingPushed.getHeaderRenderer(), gc, columnBeingPushed);
 			columnBeingPushed.getHeaderRenderer().setSelected(false);
 
 			gc.setAlpha(-1);
@@ -5737,7 +6610,11 @@ public class Grid extends Canvas {
 			x += rowHeaderWidth;
 		}
 
-		for (final GridColumn column : displayOrderedColumns) {
+		final int firstColumn = getDisplayIndexAfter(getHScrollSelectionInPixels() - 1);
+		x += getColumnOffsets()[firstColumn];
+
+		for (int displayIndex = firstColumn; displayIndex < displayOrderedColumns.size(); displayIndex++) {
+			final GridColumn column = displayOrderedColumns.get(displayIndex);
 			if (x > getClientArea().width) {
 				break;
 			}
@@ -5753,7 +6630,7 @@ public class Grid extends Canvas {
 
 			column.getFooterRenderer().setBounds(x, y, column.getWidth(), height);
 			if (x + column.getWidth() >= 0) {
-				column.getFooterRenderer().paint(gc, column);
+				paintRenderer(column.getFooterRenderer(), gc, column);
 			}
 
 			x += column.getWidth();
@@ -5762,13 +6639,13 @@ public class Grid extends Canvas {
 		if (x < getClientArea().width) {
 			emptyColumnFooterRenderer.setBounds(x, getClientArea().height - footerHeight, getClientArea().width - x,
 					footerHeight);
-			emptyColumnFooterRenderer.paint(gc, null);
+			paintRenderer(emptyColumnFooterRenderer, gc, null);
 		}
 
 		if (rowHeaderVisible) {
 			// paint left corner
 			bottomLeftRenderer.setBounds(0, getClientArea().height - footerHeight, rowHeaderWidth, footerHeight);
-			bottomLeftRenderer.paint(gc, this);
+			paintRenderer(bottomLeftRenderer, gc, this);
 			x += rowHeaderWidth;
 		}
 	}
@@ -5778,6 +6655,9 @@ public class Grid extends Canvas {
 	 * are changed.
 	 */
 	private void updateScrollbars() {
+		final GridEvents.UpdateScrollbars event = new GridEvents.UpdateScrollbars();
+		event.begin();
+
 		final Point preferredSize = getTableSize();
 
 		Rectangle clientArea = getClientArea();
@@ -5814,7 +6694,15 @@ public class Grid extends Canvas {
 		}
 
 		// if the scrollbar is visible set its values
-		if (vScroll.getVisible()) {
+		if (vScroll.getVisible() && pixelScrolling) {
+			// the selection is the pixel offset of the visible area and the
+			// thumb is the visible area itself
+			final int max = getRowPixel(items.size());
+			final int thumb = Math.max(1, Math.min(max, getVisibleGridHeight() + 1));
+			final int selection = Math.min(vScroll.getSelection(), max - thumb);
+
+			vScroll.setValues(selection, 0, max, thumb, itemHeight + 1, thumb);
+		} else if (vScroll.getVisible()) {
 			int max = currentVisibleItems;
 			int thumb = 1;
 
@@ -5893,6 +6781,37 @@ public class Grid extends Canvas {
 			}
 		}
 
+		event.end(this);
+	}
+
+	/**
+	 * Begins a change of the selection requested through the API, which is
+	 * recorded as one selection event. Changes nested in it, e.g. selectCells
+	 * called by select, are part of the outer event. Must be paired with
+	 * {@link #endSelection(GridEvents.Selection)} in a finally block.
+	 *
+	 * @return the event of the outermost change or null for a nested one
+	 */
+	private GridEvents.Selection beginSelection() {
+		if (selectionDepth++ > 0) {
+			return null;
+		}
+		final GridEvents.Selection event = new GridEvents.Selection();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends a change of the selection begun by {@link #beginSelection()}.
+	 *
+	 * @param event
+	 *            the event returned by {@link #beginSelection()}
+	 */
+	private void endSelection(final GridEvents.Selection event) {
+		selectionDepth--;
+		if (event != null) {
+			event.end(this);
+		}
 	}
 
 	/**
@@ -5907,21 +6826,31 @@ public class Grid extends Canvas {
 	 * @return selection event that needs to be fired or null
 	 */
 	private Event updateSelection(final GridItem item, final int stateMask) {
+		final GridEvents.Selection event = beginSelection();
+		try {
+			return updateSelectionInternal(item, stateMask);
+		} finally {
+			endSelection(event);
+		}
+	}
+
+	private Event updateSelectionInternal(final GridItem item, final int stateMask) {
 		if (!selectionEnabled) {
 			return null;
 		}
 
 		Event selectionEvent = null;
+		final int itemIndex = item.getRowIndex();
 
 		if (selectionType == GridSelectionType.SINGLE) {
-			if (selectedItems.contains(item)) {
+			if (rowSelection.contains(itemIndex)) {
 				// Deselect when pressing CTRL
 				if ((stateMask & SWT.MOD1) == SWT.MOD1) {
-					selectedItems.clear();
+					rowSelection.clear();
 				}
 			} else {
-				selectedItems.clear();
-				selectedItems.add(item);
+				rowSelection.clear();
+				rowSelection.add(itemIndex);
 			}
 			final Rectangle clientArea = getClientArea();
 			redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
@@ -5941,13 +6870,13 @@ public class Grid extends Canvas {
 			}
 
 			if (!shift && !ctrl) {
-				if (selectedItems.size() == 1 && selectedItems.contains(item)) {
+				if (rowSelection.size() == 1 && rowSelection.contains(itemIndex)) {
 					return null;
 				}
 
-				selectedItems.clear();
+				rowSelection.clear();
 
-				selectedItems.add(item);
+				rowSelection.add(itemIndex);
 
 				final Rectangle clientArea = getClientArea();
 				redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
@@ -5969,16 +6898,15 @@ public class Grid extends Canvas {
 
 				boolean maintainAnchorSelection = false;
 
+				final int anchorIndex = shiftSelectionAnchorItem == null ? -1 : shiftSelectionAnchorItem.getRowIndex();
+
 				if (!ctrl) {
-					if (selectedItems.contains(shiftSelectionAnchorItem)) {
+					if (rowSelection.contains(anchorIndex)) {
 						maintainAnchorSelection = true;
 					}
-					selectedItems.clear();
+					rowSelection.clear();
 				}
 
-				final int anchorIndex = items.indexOf(shiftSelectionAnchorItem);
-				final int itemIndex = item.getRowIndex();
-
 				int min = 0;
 				int max = 0;
 
@@ -5998,9 +6926,13 @@ public class Grid extends Canvas {
 					min = itemIndex;
 				}
 
-				for (int i = min; i <= max; i++) {
-					if (!selectedItems.contains(items.get(i)) && items.get(i).isVisible()) {
-						selectedItems.add(items.get(i));
+				if (!isTree) {
+					rowSelection.add(min, max + 1);
+				} else {
+					for (int i = min; i <= max; i++) {
+						if (items.get(i).isVisible()) {
+							rowSelection.add(i);
+						}
 					}
 				}
 				final Rectangle clientArea = getClientArea();
@@ -6008,10 +6940,8 @@ public class Grid extends Canvas {
 
 				selectionEvent = new Event();
 			} else if (ctrl) {
-				if (selectedItems.contains(item)) {
-					selectedItems.remove(item);
-				} else {
-					selectedItems.add(item);
+				if (!rowSelection.remove(itemIndex)) {
+					rowSelection.add(itemIndex);
 				}
 				final Rectangle clientArea = getClientArea();
 				redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
@@ -6066,6 +6996,16 @@ public class Grid extends Canvas {
 	 */
 	private Event updateCellSelection(final Vector<Point> newCells, final int stateMask, final boolean dragging,
 			final boolean reverseDuplicateSelections) {
+		final GridEvents.Selection event = beginSelection();
+		try {
+			return updateCellSelectionInternal(newCells, stateMask, dragging, reverseDuplicateSelections);
+		} finally {
+			endSelection(event);
+		}
+	}
+
+	private Event updateCellSelectionInternal(final Vector<Point> newCells, final int stateMask,
+			final boolean dragging, final boolean reverseDuplicateSelections) {
 		boolean shift = false;
 		boolean ctrl = false;
 
@@ -6081,7 +7021,7 @@ public class Grid extends Canvas {
 		}
 
 		if (!shift && !ctrl) {
-			if (newCells.equals(selectedCells)) {
+			if (newCells.size() == selectedCells.size() && containsAllCells(newCells)) {
 				return null;
 			}
 
@@ -6103,8 +7043,7 @@ public class Grid extends Canvas {
 			shiftSelectionAnchorItem = getItem(newCell.y);
 
 			if (ctrl) {
-				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.copyFrom(selectedCellsBeforeRangeSelect);
 			} else {
 				selectedCells.clear();
 			}
@@ -6128,59 +7067,65 @@ public class Grid extends Canvas {
 				endItem = temp;
 			}
 
-			boolean firstLoop = true;
-
-			do {
-				if (!firstLoop) {
-					currentItem = getNextVisibleItem(currentItem);
-				}
+			if (!hasSpanning && selectionType == GridSelectionType.MULTI) {
+				// without spanning, every row of the range selects the same columns
+				selectRange(currentItem, endItem, startCol, endColumn);
+			} else {
+				boolean firstLoop = true;
 
-				firstLoop = false;
+				do {
+					if (!firstLoop) {
+						currentItem = getNextVisibleItem(currentItem);
+					}
 
-				boolean firstLoop2 = true;
+					firstLoop = false;
 
-				currentColumn = startCol;
+					boolean firstLoop2 = true;
 
-				do {
-					if (!firstLoop2) {
-						final int index = displayOrderedColumns.indexOf(currentColumn) + 1;
+					currentColumn = startCol;
 
-						if (index < displayOrderedColumns.size()) {
-							currentColumn = getVisibleColumn_DegradeRight(currentItem,
-									displayOrderedColumns.get(index));
-						} else {
-							currentColumn = null;
-						}
+					do {
+						if (!firstLoop2) {
+							final int index = displayOrderedColumns.indexOf(currentColumn) + 1;
 
-						if (currentColumn != null) {
-							if (displayOrderedColumns.indexOf(currentColumn) > displayOrderedColumns
-									.indexOf(endColumn)) {
+							if (index < displayOrderedColumns.size()) {
+								currentColumn = getVisibleColumn_DegradeRight(currentItem,
+										displayOrderedColumns.get(index));
+							} else {
 								currentColumn = null;
 							}
+
+							if (currentColumn != null) {
+								if (displayOrderedColumns.indexOf(currentColumn) > displayOrderedColumns
+										.indexOf(endColumn)) {
+									currentColumn = null;
+								}
+							}
 						}
-					}
 
-					firstLoop2 = false;
+						firstLoop2 = false;
 
-					if (currentColumn != null) {
-						final Point cell = new Point(currentColumn.index, currentItem.getRowIndex());
-						addToCellSelection(cell);
-					}
-				} while (currentColumn != endColumn && currentColumn != null);
-			} while (currentItem != endItem);
+						if (currentColumn != null) {
+							final Point cell = new Point(currentColumn.index, currentItem.getRowIndex());
+							addToCellSelection(cell);
+						}
+					} while (currentColumn != endColumn && currentColumn != null);
+				} while (currentItem != endItem);
+			}
 		} else if (ctrl) {
 			boolean reverse = reverseDuplicateSelections;
-			if (!selectedCells.containsAll(newCells)) {
+			if (!containsAllCells(newCells)) {
 				reverse = false;
 			}
 
 			if (dragging) {
-				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.copyFrom(selectedCellsBeforeRangeSelect);
 			}
 
 			if (reverse) {
-				selectedCells.removeAll(newCells);
+				for (final Point newCell : newCells) {
+					selectedCells.remove(newCell.x, newCell.y);
+				}
 			} else {
 				for (final Point newCell : newCells) {
 					addToCellSelection(newCell);
@@ -6188,6 +7133,16 @@ public class Grid extends Canvas {
 			}
 		}
 
+		return cellSelectionChanged(dragging);
+	}
+
+	/**
+	 * Updates the selected columns and repaints after the cell selection has
+	 * changed.
+	 *
+	 * @return selection event that will need to be fired
+	 */
+	private Event cellSelectionChanged(final boolean dragging) {
 		updateColumnSelection();
 
 		final Event e = new Event();
@@ -6203,23 +7158,147 @@ public class Grid extends Canvas {
 	}
 
 	/**
-	 * Adds Point objects from the itemsToBeAdded list that do not currently exist
-	 * in the sourceList.
+	 * Selects whole columns like {@link #updateCellSelection(Vector, int, boolean, boolean)}
+	 * without a range selection modifier, without creating a point per cell.
+	 * Only valid for multi selection without spanning.
+	 *
+	 * @param columnIndexes
+	 *            indexes of the columns
+	 * @param stateMask
+	 *            statemask during preceeding mouse or key event.
+	 * @param dragging
+	 *            true if the user is dragging.
+	 * @param reverseDuplicateSelections
+	 *            true if the user is reversing selection rather than adding to.
+	 *
+	 * @return selection event that will need to be fired or null.
+	 */
+	private Event updateColumnCellSelection(final BitSet columnIndexes, final int stateMask,
+			final boolean dragging, final boolean reverseDuplicateSelections) {
+		final GridEvents.Selection event = beginSelection();
+		try {
+			shiftSelectionAnchorColumn = null;
+			shiftSelectionAnchorItem = null;
+
+			final CellSelection newCells = getColumnCells(columnIndexes);
+			Event selectionEvent = null;
+			if ((stateMask & SWT.MOD1) != SWT.MOD1) {
+				if (!selectedCells.sameCells(newCells)) {
+					selectedCells.copyFrom(newCells);
+					selectionEvent = cellSelectionChanged(dragging);
+				}
+			} else {
+				final boolean reverse = reverseDuplicateSelections && selectedCells.containsAll(newCells);
+				if (dragging) {
+					selectedCells.copyFrom(selectedCellsBeforeRangeSelect);
+				}
+				if (reverse) {
+					selectedCells.removeAll(newCells);
+				} else {
+					selectedCells.addAll(newCells);
+				}
+				selectionEvent = cellSelectionChanged(dragging);
+			}
+			return selectionEvent;
+		} finally {
+			endSelection(event);
+		}
+	}
+
+	/**
+	 * Adds the cells of whole columns to the selection. Only valid for multi
+	 * selection without spanning.
+	 */
+	private void selectColumnCells(final BitSet columnIndexes) {
+		if (!cellSelectionEnabled) {
+			return;
+		}
+		selectedCells.addAll(getColumnCells(columnIndexes));
+		updateColumnSelection();
+		redraw();
+	}
+
+	/**
+	 * @return indexes of the given columns
+	 */
+	private static BitSet getColumnIndexes(final GridColumn[] columns) {
+		final BitSet columnIndexes = new BitSet();
+		for (final GridColumn column : columns) {
+			columnIndexes.set(column.index);
+		}
+		return columnIndexes;
+	}
+
+	/**
+	 * Collects the cells of the given columns in all visible rows, skipping
+	 * columns without cell selection. Only valid without spanning.
 	 *
-	 * @param sourceList
-	 * @param itemsToBeAdded
+	 * @return the cells as row blocks
 	 */
-	private void addCellstThatDoNotAlreadyExist(final List<Point> sourceList, final List<Point> itemsToBeAdded) {
-		if (itemsToBeAdded.size() > 0) {
-			// add all the cells from the itemsToBeAdded list that don't already exist in
-			// the sourceList
-			for (final Point cell : itemsToBeAdded) {
-				if (!sourceList.contains(cell)) {
-					sourceList.add(cell);
+	private CellSelection getColumnCells(final BitSet columnIndexes) {
+		final BitSet selectable = new BitSet();
+		for (int i = columnIndexes.nextSetBit(0); i >= 0; i = columnIndexes.nextSetBit(i + 1)) {
+			if (i < columns.size() && columns.get(i).getCellSelectionEnabled()) {
+				selectable.set(i);
+			}
+		}
+
+		final CellSelection cells = new CellSelection();
+		if (!isTree && currentVisibleItems == items.size()) {
+			cells.add(0, items.size(), selectable);
+		} else {
+			for (int row = 0; row < items.size(); row++) {
+				if (row == 0 || items.get(row).isVisible()) {
+					cells.add(row, row + 1, selectable);
 				}
+			}
+		}
+		return cells;
+	}
 
+	/**
+	 * Selects the cells of all visible rows from startItem to endItem in the
+	 * columns displayed from startColumn to endColumn. Only valid if no cell
+	 * spans other cells.
+	 */
+	private void selectRange(final GridItem startItem, final GridItem endItem, final GridColumn startColumn,
+			final GridColumn endColumn) {
+		final BitSet rangeColumns = new BitSet();
+		if (startColumn.getCellSelectionEnabled()) {
+			rangeColumns.set(startColumn.index);
+		}
+		final int last = displayOrderedColumns.indexOf(endColumn);
+		for (int i = displayOrderedColumns.indexOf(startColumn) + 1; i <= last; i++) {
+			final GridColumn column = displayOrderedColumns.get(i);
+			if (column.isVisible() && column.getCellSelectionEnabled()) {
+				rangeColumns.set(column.index);
+			}
+		}
+
+		if (!isTree) {
+			selectedCells.add(startItem.getRowIndex(), endItem.getRowIndex() + 1, rangeColumns);
+			return;
+		}
+
+		GridItem item = startItem;
+		while (item != null) {
+			final int row = item.getRowIndex();
+			selectedCells.add(row, row + 1, rangeColumns);
+			item = item == endItem ? null : getNextVisibleItem(item);
+		}
+	}
+
+	/**
+	 * @param cells
+	 * @return true if all given cells are selected
+	 */
+	private boolean containsAllCells(final List<Point> cells) {
+		for (final Point cell : cells) {
+			if (!selectedCells.contains(cell.x, cell.y)) {
+				return false;
 			}
 		}
+		return true;
 	}
 
 	private void addToCellSelection(final Point newCell) {
@@ -6232,21 +7311,11 @@ public class Grid extends Canvas {
 		}
 
 		if (getColumn(newCell.x).getCellSelectionEnabled()) {
-			final Iterator<Point> it = selectedCells.iterator();
-			boolean found = false;
-			while (it.hasNext()) {
-				final Point p = it.next();
-				if (newCell.equals(p)) {
-					found = true;
-					break;
-				}
-			}
-
-			if (!found) {
-				if (selectionType == GridSelectionType.SINGLE && selectedCells.size() > 0) {
+			if (!selectedCells.contains(newCell.x, newCell.y)) {
+				if (selectionType == GridSelectionType.SINGLE && !selectedCells.isEmpty()) {
 					return;
 				}
-				selectedCells.add(newCell);
+				selectedCells.add(newCell.x, newCell.y);
 			}
 		}
 	}
@@ -6255,8 +7324,9 @@ public class Grid extends Canvas {
 		// Update the list of which columns have all their cells selected
 		selectedColumns.clear();
 
-		for (final Point cell : selectedCells) {
-			selectedColumns.add(getColumn(cell.x));
+		final BitSet columnIndexes = selectedCells.columns();
+		for (int i = columnIndexes.nextSetBit(0); i >= 0 && i < columns.size(); i = columnIndexes.nextSetBit(i + 1)) {
+			selectedColumns.add(getColumn(i));
 		}
 	}
 
@@ -6285,11 +7355,11 @@ public class Grid extends Canvas {
 		addTraverseListener(e -> {
 			if (moveOnTab) {
 				e.doit = false;
-				if (selectedItems.isEmpty()) {
+				if (rowSelection.isEmpty()) {
 					select(0);
 					return;
 				}
-				if (selectedItems.size() == 1) {
+				if (rowSelection.size() == 1) {
 					final int index = getSelectionIndex();
 					if (SWT.TRAVERSE_TAB_NEXT == e.detail) {
 						select(index == getItemCount() - 1 ? 0 : index + 1);
@@ -6379,6 +7449,11 @@ public class Grid extends Canvas {
 
 		disposing = true;
 
+		if (asyncDataLoader != null) {
+			asyncDataLoader.dispose();
+			asyncDataLoader = null;
+		}
+
 		cellHeaderSelectionBackground.dispose();
 
 		for (final GridItem item : items) {
@@ -6479,7 +7554,7 @@ public class Grid extends Canvas {
 
 		if (isListening(SWT.DragDetect)) {
 			if (cellSelectionEnabled && hoveringOnSelectionDragArea
-					|| !cellSelectionEnabled && item != null && selectedItems.contains(item)) {
+					|| !cellSelectionEnabled && item != null && rowSelection.contains(item.getRowIndex())) {
 				if (dragDetect(e)) {
 					return;
 				}
@@ -6491,7 +7566,7 @@ public class Grid extends Canvas {
 				final GridColumn col = getColumn(new Point(e.x, e.y));
 				boolean isSelectedCell = false;
 				if (col != null) {
-					isSelectedCell = selectedCells.contains(new Point(col.index, item.getRowIndex()));
+					isSelectedCell = selectedCells.contains(col.index, item.getRowIndex());
 				}
 
 				if (e.button == 1 || e.button == 3 && col != null && !isSelectedCell) {
@@ -6558,7 +7633,7 @@ public class Grid extends Canvas {
 						return;
 					}
 
-					if (selectedItems.contains(item)) {
+					if (rowSelection.contains(item.getRowIndex())) {
 						return;
 					}
 				}
@@ -6595,16 +7670,25 @@ public class Grid extends Canvas {
 				return;
 			}
 
-			final Vector<Point> cells = new Vector<>();
-
 			final GridColumnGroup group = col.getColumnGroup();
-			if (group != null && e.y < groupHeaderHeight) {
-				getCells(group, cells);
+			final GridColumn[] clickedColumns = group != null && e.y < groupHeaderHeight ? group.getColumns()
+					: new GridColumn[] { col };
+
+			if (!hasSpanning && (e.stateMask & SWT.MOD2) != 0) {
+				// a range selection only uses the first cell of the column
+				final Vector<Point> cells = new Vector<>();
+				cells.add(new Point(clickedColumns[0].index, 0));
+				selectionEvent = updateCellSelection(cells, e.stateMask, false, true);
+			} else if (!hasSpanning && selectionType == GridSelectionType.MULTI) {
+				selectionEvent = updateColumnCellSelection(getColumnIndexes(clickedColumns), e.stateMask, false,
+						true);
 			} else {
-				getCells(col, cells);
+				final Vector<Point> cells = new Vector<>();
+				for (final GridColumn clickedColumn : clickedColumns) {
+					getCells(clickedColumn, cells);
+				}
+				selectionEvent = updateCellSelection(cells, e.stateMask, false, true);
 			}
-
-			selectionEvent = updateCellSelection(cells, e.stateMask, false, true);
 			cellColumnSelectedOnLastMouseDown = getCellSelectionCount() > 0;
 
 			GridItem newFocusItem = getItem(0);
@@ -6813,8 +7897,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = (e.stateMask & SWT.MOD1) != 0;
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.copyFrom(selectedCells);
 					}
 				}
 				if (!cellRowDragSelectionOccuring && cellRowSelectedOnLastMouseDown) {
@@ -6822,8 +7905,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = (e.stateMask & SWT.MOD1) != 0;
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.copyFrom(selectedCells);
 					}
 				}
 
@@ -6832,8 +7914,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = (e.stateMask & SWT.MOD1) != 0;
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.copyFrom(selectedCells);
 					}
 				}
 
@@ -6912,12 +7993,18 @@ public class Grid extends Canvas {
 					GridColumn iterCol = intentCol;
 
 					final Vector<Point> newSelected = new Vector<>();
+					final BitSet newSelectedColumns = new BitSet();
+					final boolean wholeColumns = !hasSpanning && selectionType == GridSelectionType.MULTI;
 
 					final boolean decreasing = displayOrderedColumns.indexOf(iterCol) > displayOrderedColumns
 							.indexOf(focusColumn);
 
 					do {
-						getCells(iterCol, newSelected);
+						if (wholeColumns) {
+							newSelectedColumns.set(iterCol.index);
+						} else {
+							getCells(iterCol, newSelected);
+						}
 
 						if (iterCol == focusColumn) {
 							break;
@@ -6931,7 +8018,9 @@ public class Grid extends Canvas {
 
 					} while (true);
 
-					selectionEvent = updateCellSelection(newSelected, ctrlFlag, true, false);
+					selectionEvent = wholeColumns
+							? updateColumnCellSelection(newSelectedColumns, ctrlFlag, true, false)
+							: updateCellSelection(newSelected, ctrlFlag, true, false);
 				}
 
 			}
@@ -7329,8 +8418,7 @@ public class Grid extends Canvas {
 			return;
 		}
 
-		if (selectionEnabled && !cellSelectionEnabled && !selectedItems.contains(focusItem)) {
-			selectedItems.add(focusItem);
+		if (selectionEnabled && !cellSelectionEnabled && rowSelection.add(focusItem.getRowIndex())) {
 			redraw();
 			final Event e = new Event();
 			e.item = focusItem;
@@ -7390,19 +8478,98 @@ public class Grid extends Canvas {
 		// }
 		// }
 
-		scrollValuesObsolete = true;
-		topIndex = -1;
-		bottomIndex = -1;
+		scrollValuesObsolete = true;
+		invalidateAutoHeights();
+		topIndex = -1;
+		bottomIndex = -1;
+	}
+
+	/**
+	 * Scrollbar selection event handler.
+	 */
+	private void onScrollSelection() {
+		topIndex = -1;
+		bottomIndex = -1;
+		if (!scrollPaintedContent()) {
+			redraw(getClientArea().x, getClientArea().y, getClientArea().width, getClientArea().height, false);
+		}
+		refreshHoverState();
+	}
+
+	/**
+	 * Moves the content painted at the previous scroll position to the current
+	 * scroll position by copying it, so that only the exposed rows or columns
+	 * are painted again. Column headers and footers stay in place when scrolling
+	 * vertically and the row header stays in place when scrolling horizontally.
+	 *
+	 * @return false if the whole client area has to be painted again
+	 */
+	private boolean scrollPaintedContent() {
+		if (scrollValuesObsolete || draggingColumn || insertMarkItem != null) {
+			return false;
+		}
+
+		// paint pending damage first, as it would be copied otherwise
+		update();
+
+		final int deltaX = paintedScrollX - getHScrollSelectionInPixels();
+		final int deltaY = paintedScrollY - getVScrollSelectionInPixels();
+		if (deltaX != 0 && deltaY != 0) {
+			return false;
+		}
+
+		final Rectangle clientArea = getClientArea();
+		if (deltaY != 0) {
+			final int top = columnHeadersVisible ? headerHeight : 0;
+			final int height = clientArea.height - top - (columnFootersVisible ? footerHeight : 0);
+			if (Math.abs(deltaY) >= height) {
+				return false;
+			}
+			scroll(0, top + Math.max(deltaY, 0), 0, top - Math.min(deltaY, 0), clientArea.width,
+					height - Math.abs(deltaY), false);
+		} else if (deltaX != 0) {
+			final int left = rowHeaderVisible ? rowHeaderWidth : 0;
+			final int width = clientArea.width - left;
+			if (Math.abs(deltaX) >= width) {
+				return false;
+			}
+			scroll(left + Math.max(deltaX, 0), 0, left - Math.min(deltaX, 0), 0, width - Math.abs(deltaX),
+					clientArea.height, false);
+
+			// the focus rectangle spans the client area, not the columns
+			redrawRow(focusItem);
+		}
+
+		paintedScrollX -= deltaX;
+		paintedScrollY -= deltaY;
+		return true;
 	}
 
 	/**
-	 * Scrollbar selection event handler.
+	 * @return vertical scroll position in pixels, i.e. the offset of the top edge
+	 *         of the visible area from the top edge of the first row
 	 */
-	private void onScrollSelection() {
-		topIndex = -1;
-		bottomIndex = -1;
-		refreshHoverState();
-		redraw(getClientArea().x, getClientArea().y, getClientArea().width, getClientArea().height, false);
+	private int getVScrollSelectionInPixels() {
+		return getRowPixel(getTopIndex()) + getTopRowOffset();
+	}
+
+	/**
+	 * Redraws the row of the given item, if any.
+	 *
+	 * @param item
+	 *            item or null
+	 */
+	void redrawRow(final GridItem item) {
+		if (item == null || item.isDisposed() || !item.isVisible()) {
+			return;
+		}
+
+		final Rectangle clientArea = getClientArea();
+		int y = columnHeadersVisible ? headerHeight : 0;
+		y += getRowPixel(item.getRowIndex()) - getVScrollSelectionInPixels();
+		if (y + item.getHeight() + 1 >= 0 && y - 1 < clientArea.height) {
+			redraw(clientArea.x, y - 1, clientArea.width, item.getHeight() + 2, false);
+		}
 	}
 
 	/**
@@ -7423,15 +8590,11 @@ public class Grid extends Canvas {
 
 		x -= getHScrollSelectionInPixels();
 
-		for (final GridColumn colIter : displayOrderedColumns) {
-
-			if (colIter == column) {
-				break;
-			}
-
-			if (colIter.isVisible()) {
-				x += colIter.getWidth();
-			}
+		if (column != null) {
+			x += getColumnOffset(column);
+		} else {
+			final int[] offsets = getColumnOffsets();
+			x += offsets[offsets.length - 1];
 		}
 
 		int y = 0;
@@ -7440,28 +8603,14 @@ public class Grid extends Canvas {
 				y += headerHeight;
 			}
 
-			int currIndex = getTopIndex();
+			final int topIndex = getTopIndex();
 			final int itemIndex = item.getRowIndex();
 
 			if (itemIndex == -1) {
 				SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 			}
 
-			while (currIndex != itemIndex) {
-				if (currIndex < itemIndex) {
-					final GridItem currItem = items.get(currIndex);
-					if (currItem.isVisible()) {
-						y += currItem.getHeight() + 1;
-					}
-					currIndex++;
-				} else if (currIndex > itemIndex) {
-					currIndex--;
-					final GridItem currItem = items.get(currIndex);
-					if (currItem.isVisible()) {
-						y -= currItem.getHeight() + 1;
-					}
-				}
-			}
+			y += getRowPixel(itemIndex) - getRowPixel(topIndex) - getTopRowOffset();
 		} else {
 			if (column.getColumnGroup() != null) {
 				y += groupHeaderHeight;
@@ -7591,14 +8740,23 @@ public class Grid extends Canvas {
 
 		if (hoveringItem != item || !hoveringDetail.equals(detail) || hoveringColumn != col
 				|| hoverColGroup != hoverColumnGroupHeader || hoverColHeader != hoveringColumnHeader) {
+			final boolean rowsOnly = !hasSpanning && hoveringColumn == col
+					&& hoverColGroup == hoverColumnGroupHeader && hoverColHeader == hoveringColumnHeader;
+			final GridItem previousItem = hoveringItem;
+
 			hoveringItem = item;
 			hoveringDetail = detail;
 			hoveringColumn = col;
 			hoveringColumnHeader = hoverColHeader;
 			hoverColumnGroupHeader = hoverColGroup;
 
-			final Rectangle clientArea = getClientArea();
-			redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
+			if (rowsOnly) {
+				redrawRow(previousItem);
+				redrawRow(item);
+			} else {
+				final Rectangle clientArea = getClientArea();
+				redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
+			}
 
 			hoverChange = true;
 		}
@@ -7703,11 +8861,25 @@ public class Grid extends Canvas {
 		super.setToolTipText(text);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Does nothing while data loaded by the asynchronous data provider is
+	 * applied, as only the rows which got data are repainted then.
+	 */
+	@Override
+	public void redraw() {
+		if (!applyingData) {
+			super.redraw();
+		}
+	}
+
 	/**
 	 * Marks the scroll values obsolete so they will be recalculated.
 	 */
 	protected void setScrollValuesObsolete() {
 		scrollValuesObsolete = true;
+		invalidateAutoHeights();
 		redraw();
 	}
 
@@ -7736,6 +8908,8 @@ public class Grid extends Canvas {
 			displayOrderedColumns.add(index, column);
 
 			dataVisualizer.addColumn(index);
+			selectedCells.insertColumn(index);
+			spanIndex.insertColumn(index);
 			for(int i = 0; i < size; i++) {
 				columns.get(i).setColumnIndex(i);
 			}
@@ -7748,11 +8922,11 @@ public class Grid extends Canvas {
 
 		updatePrimaryCheckColumn();
 
-		for (final GridItem item : items) {
-			item.columnAdded(index);
-		}
+		// invalidates SetData of all items at once, see GridItem#handleVirtual()
+		columnsEpoch++;
 
 		scrollValuesObsolete = true;
+		invalidateAutoHeights();
 		redraw();
 		clearDisplayOrderedCache();
 		return size - 1;
@@ -7770,25 +8944,8 @@ public class Grid extends Canvas {
 		final int index = column.index;
 
 		if (cellSelectionEnabled) {
-			final Vector<Point> removeSelectedCells = new Vector<>();
-
-			for (final Point cell : selectedCells) {
-				if (cell.x == index) {
-					removeSelectedCells.add(cell);
-				}
-			}
-
-			if (removeSelectedCells.size() > 0) {
-				selectedCells.removeAll(removeSelectedCells);
-				selectionModified = true;
-			}
-
-			for (final Point cell : selectedCells) {
-				if (cell.x >= index) {
-					cell.x--;
-					selectionModified = true;
-				}
-			}
+			selectionModified = selectedCells.columns().nextSetBit(index) >= 0;
+			selectedCells.deleteColumn(index);
 		}
 
 		columns.remove(column);
@@ -7798,6 +8955,7 @@ public class Grid extends Canvas {
 		}
 		displayOrderedColumns.remove(column);
 		dataVisualizer.clearColumn(index);
+		spanIndex.deleteColumn(index);
 
 		if (focusColumn == column) {
 			focusColumn = null;
@@ -7806,6 +8964,7 @@ public class Grid extends Canvas {
 		updatePrimaryCheckColumn();
 
 		scrollValuesObsolete = true;
+		invalidateAutoHeights();
 
 		redraw();
 
@@ -7843,6 +9002,10 @@ public class Grid extends Canvas {
 		} else {
 			rootItems.add(index, item);
 		}
+		if (streamingCapacity > 0 && !addingItems) {
+			scheduleStreamUpdate();
+			trimStream();
+		}
 	}
 
 	void removeRootItem(final GridItem item) {
@@ -7860,6 +9023,11 @@ public class Grid extends Canvas {
 	 * @return the index where the item was insert
 	 */
 	int newItem(final GridItem item, int index, final boolean root) {
+		if (root && index == 0 && streamingCapacity > 0 && rootItems.size() >= streamingCapacity) {
+			// the item would be dropped before its constructor returns
+			SWT.error(SWT.ERROR_INVALID_RANGE);
+		}
+
 		int row = 0;
 
 		if (!isTree) {
@@ -7897,35 +9065,64 @@ public class Grid extends Canvas {
 		} else {
 			items.add(index, item);
 			row = index;
+			rowSelection.insert(index);
+			selectedCells.insertRow(index);
+			spanIndex.insertRow(index);
 			for (int i = index + 1; i < items.size(); i++) {
 				items.get(i).increaseRow();
 			}
 		}
 
-		estimate(sizingGC -> {
-			if (items.size() == 1 && !userModifiedItemHeight) {
-				itemHeight = computeItemHeight(item, sizingGC);
-				// virtual problems here
-				if ((getStyle() & SWT.VIRTUAL) != 0) {
-					item.setHasSetData(false);
-				}
-			}
+		if (!visibleRowsObsolete && row == items.size() - 1) {
+			visibleRows.append(item.isVisible() ? 1 : 0);
+		} else {
+			visibleRowsObsolete = true;
+		}
+
+		if (addingItems) {
+			rowHeightsObsolete = true;
+			currentVisibleItems++;
+			return row;
+		}
 
+		if (streamingCapacity > 0 && items.size() > 1) {
+			// the row header is measured once per frame, see updateStream()
 			item.initializeHeight(itemHeight);
+		} else {
+			estimate(sizingGC -> {
+				if (items.size() == 1 && !userModifiedItemHeight) {
+					itemHeight = computeItemHeight(item, sizingGC);
+					// virtual problems here
+					if ((getStyle() & SWT.VIRTUAL) != 0) {
+						item.setHasSetData(false);
+					}
+				}
 
-			if (isRowHeaderVisible() && isAutoWidth()) {
-				rowHeaderWidth = Math.max(rowHeaderWidth, //
-						rowHeaderRenderer.computeSize(sizingGC, SWT.DEFAULT, SWT.DEFAULT, item).x);
-			}
-		});
+				item.initializeHeight(itemHeight);
+
+				if (isRowHeaderVisible() && isAutoWidth()) {
+					rowHeaderWidth = Math.max(rowHeaderWidth, //
+							computeRendererSize(rowHeaderRenderer, sizingGC, SWT.DEFAULT, SWT.DEFAULT, item).x);
+				}
+			});
+		}
+
+		if (!rowHeightsObsolete && row == items.size() - 1) {
+			rowHeights.append(item.isVisible() ? item.getHeight() + 1 : 0);
+		} else {
+			rowHeightsObsolete = true;
+		}
 
 		scrollValuesObsolete = true;
+		invalidateAutoHeights();
 		topIndex = -1;
 		bottomIndex = -1;
 
 		currentVisibleItems++;
 
-		redraw();
+		if (streamingCapacity == 0) {
+			redraw();
+		}
 
 		return row;
 	}
@@ -7939,12 +9136,13 @@ public class Grid extends Canvas {
 	 */
 	void removeItem(final GridItem item) {
 
-		final Point[] cells = getCells(item);
 		boolean selectionModified = false;
 
 		final int index = item.getRowIndex();
 
 		items.remove(item);
+		invalidateRowIndexes();
+		spanIndex.removeRows(index, 1);
 
 		dataVisualizer.clearRow(item);
 
@@ -7956,21 +9154,22 @@ public class Grid extends Canvas {
 			items.get(i).decreaseRow();
 		}
 
-		if (selectedItems.remove(item)) {
+		if (rowSelection.contains(index)) {
 			selectionModified = true;
 		}
+		rowSelection.delete(index);
 
-		for (final Point cell : cells) {
-			if (selectedCells.remove(cell)) {
-				selectionModified = true;
-			}
+		if (selectedCells.containsRow(index)) {
+			selectionModified = true;
 		}
+		selectedCells.deleteRow(index);
 
 		if (focusItem == item) {
 			focusItem = null;
 		}
 
 		scrollValuesObsolete = true;
+		invalidateAutoHeights();
 		topIndex = -1;
 		bottomIndex = -1;
 		if (item.isVisible()) {
@@ -8036,13 +9235,166 @@ public class Grid extends Canvas {
 	}
 
 	/**
-	 * Updates the cached number of visible items by the given amount.
+	 * Updates the cached number of visible items after the visibility of the
+	 * given item has changed.
 	 *
+	 * @param item
+	 *            item whose visibility changed
 	 * @param amount
 	 *            amount to update cached total
 	 */
-	void updateVisibleItems(final int amount) {
+	void updateVisibleItems(final GridItem item, final int amount) {
 		currentVisibleItems += amount;
+		spanIndex.invalidate();
+		if (!visibleRowsObsolete) {
+			visibleRows.add(item.getRowIndex(), amount);
+		}
+		if (!rowHeightsObsolete) {
+			rowHeights.add(item.getRowIndex(), amount * (item.getHeight() + 1));
+		}
+	}
+
+	/**
+	 * Updates the row height index after the height of the given item has
+	 * changed.
+	 *
+	 * @param item
+	 *            item whose height changed
+	 * @param delta
+	 *            difference between new and old height
+	 */
+	void updateItemHeight(final GridItem item, final int delta) {
+		if (!rowHeightsObsolete && item.isVisible()) {
+			rowHeights.add(item.getRowIndex(), delta);
+		}
+	}
+
+	/**
+	 * Marks the row indexes obsolete after items were inserted or removed.
+	 */
+	private void invalidateRowIndexes() {
+		visibleRowsObsolete = true;
+		rowHeightsObsolete = true;
+		spanIndex.invalidate();
+	}
+
+	/**
+	 * Returns the height index of the rows, rebuilding it if necessary.
+	 *
+	 * @return height index
+	 */
+	private FenwickTree getRowHeights() {
+		if (rowHeightsObsolete || rowHeights.size() != items.size()) {
+			rowHeights.build(items.size(), row -> {
+				final GridItem item = items.get(row);
+				return item.isVisible() ? item.getHeight() + 1 : 0;
+			});
+			rowHeightsObsolete = false;
+		}
+		return rowHeights;
+	}
+
+	/**
+	 * Returns the visible row covering the given pixel offset from the top of
+	 * the grid. Only valid if rows have differing heights.
+	 *
+	 * @param y
+	 *            offset in pixels
+	 * @return row index, the last visible row if the offset is beyond the grid
+	 */
+	private int getRowAtOffset(final int y) {
+		final FenwickTree rowHeights = getRowHeights();
+		if (y >= rowHeights.total()) {
+			return getLastVisibleIndex();
+		}
+		return rowHeights.find(Math.max(y, 0));
+	}
+
+	/**
+	 * @return number of visible rows from startIndex to endIndex (inclusive)
+	 */
+	private int countVisibleRows(final int startIndex, final int endIndex) {
+		if (!isTree) {
+			return endIndex - startIndex + 1;
+		}
+		return getVisibleRows().sum(endIndex + 1) - getVisibleRows().sum(startIndex);
+	}
+
+	/**
+	 * @return offset in pixels of the top edge of the given row from the top edge
+	 *         of the first row, including row separators
+	 */
+	private int getRowPixel(final int row) {
+		if (hasDifferingHeights) {
+			return getRowHeights().sum(row);
+		}
+		return (itemHeight + 1) * (isTree ? getVisibleRows().sum(row) : Math.min(row, items.size()));
+	}
+
+	/**
+	 * @return index of the visible row covering the given pixel offset from the
+	 *         top edge of the first row
+	 */
+	private int getRowAtPixel(final int y) {
+		if (items.isEmpty()) {
+			return 0;
+		}
+		if (hasDifferingHeights) {
+			return getRowAtOffset(y);
+		}
+		final int rank = Math.max(y, 0) / (itemHeight + 1);
+		if (!isTree) {
+			return Math.min(rank, items.size() - 1);
+		}
+		final FenwickTree visibleRows = getVisibleRows();
+		return rank < visibleRows.total() ? visibleRows.find(rank) : Math.max(getLastVisibleIndex(), 0);
+	}
+
+	/**
+	 * Returns the number of pixels of the top item which are scrolled out of
+	 * view. This is always 0 unless pixel scrolling is enabled.
+	 *
+	 * @return offset of the top item
+	 */
+	int getTopRowOffset() {
+		getTopIndex();
+		return topRowOffset;
+	}
+
+	/**
+	 * Returns the visibility index of the rows, rebuilding it if necessary.
+	 *
+	 * @return visibility index
+	 */
+	private FenwickTree getVisibleRows() {
+		if (visibleRowsObsolete || visibleRows.size() != items.size()) {
+			visibleRows.build(items.size(), row -> items.get(row).isVisible() ? 1 : 0);
+			visibleRowsObsolete = false;
+		}
+		return visibleRows;
+	}
+
+	/**
+	 * @return index of the first visible item or -1 if there is none
+	 */
+	private int getFirstVisibleIndex() {
+		if (!isTree) {
+			return items.isEmpty() ? -1 : 0;
+		}
+		final FenwickTree visibleRows = getVisibleRows();
+		return visibleRows.total() > 0 ? visibleRows.find(0) : -1;
+	}
+
+	/**
+	 * @return index of the last visible item or -1 if there is none
+	 */
+	private int getLastVisibleIndex() {
+		if (!isTree) {
+			return items.size() - 1;
+		}
+		final FenwickTree visibleRows = getVisibleRows();
+		final int total = visibleRows.total();
+		return total > 0 ? visibleRows.find(total - 1) : -1;
 	}
 
 	/**
@@ -8204,6 +9556,56 @@ public class Grid extends Canvas {
 		redraw();
 	}
 
+	/**
+	 * Returns true if the table is set to vertically scroll pixel-by-pixel rather
+	 * than row-by-row.
+	 *
+	 * @return true if the table is scrolled vertically by pixel
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 */
+	public boolean getPixelScrolling() {
+		checkWidget();
+		return pixelScrolling;
+	}
+
+	/**
+	 * Sets the table scrolling method to either scroll vertically pixel-by-pixel
+	 * (true) or row-by-row (false). Scrolling by pixel allows the top row to be
+	 * partly visible, which gives smooth scrolling for tall (e.g. word wrapped)
+	 * rows. The top item is kept when the method is changed.
+	 *
+	 * @param pixelScrolling
+	 *            true to vertically scroll by pixel, false to scroll by row
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 */
+	public void setPixelScrolling(final boolean pixelScrolling) {
+		checkWidget();
+		if (this.pixelScrolling == pixelScrolling) {
+			return;
+		}
+
+		final int index = getTopIndex();
+		this.pixelScrolling = pixelScrolling;
+		topIndex = -1;
+		bottomIndex = -1;
+		scrollValuesObsolete = true;
+		updateScrollbars();
+		setTopIndex(index);
+		redraw();
+	}
+
 	/**
 	 * Returns the first visible column that is not spanned by any other column that
 	 * is either the given column or any of the columns displaying to the left of
@@ -8333,7 +9735,7 @@ public class Grid extends Canvas {
 				// To keep compatibility, one can selected multiple cells
 				selectionType = GridSelectionType.MULTI;
 			}
-			selectedItems.clear();
+			rowSelection.clear();
 			redraw();
 		}
 
@@ -8394,14 +9796,18 @@ public class Grid extends Canvas {
 	 */
 	public void deselectCell(final Point cell) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (cell == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			}
 
-		if (cell == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			selectedCells.remove(cell.x, cell.y);
+			updateColumnSelection();
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-
-		selectedCells.remove(cell);
-		updateColumnSelection();
-		redraw();
 	}
 
 	/**
@@ -8425,24 +9831,28 @@ public class Grid extends Canvas {
 	 */
 	public void deselectCells(final Point[] cells) {
 		checkWidget();
-
-		if (cells == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
-		}
-
-		for (final Point cell : cells) {
-			if (cell == null) {
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (cells == null) {
 				SWT.error(SWT.ERROR_NULL_ARGUMENT);
 			}
-		}
 
-		for (final Point cell : cells) {
-			selectedCells.remove(cell);
-		}
+			for (final Point cell : cells) {
+				if (cell == null) {
+					SWT.error(SWT.ERROR_NULL_ARGUMENT);
+				}
+			}
 
-		updateColumnSelection();
+			for (final Point cell : cells) {
+				selectedCells.remove(cell.x, cell.y);
+			}
 
-		redraw();
+			updateColumnSelection();
+
+			redraw();
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -8458,9 +9868,14 @@ public class Grid extends Canvas {
 	 */
 	public void deselectAllCells() {
 		checkWidget();
-		selectedCells.clear();
-		updateColumnSelection();
-		redraw();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			selectedCells.clear();
+			updateColumnSelection();
+			redraw();
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -8483,18 +9898,22 @@ public class Grid extends Canvas {
 	 */
 	public void selectCell(final Point cell) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!cellSelectionEnabled) {
+				return;
+			}
 
-		if (!cellSelectionEnabled) {
-			return;
-		}
+			if (cell == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			}
 
-		if (cell == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			addToCellSelection(cell);
+			updateColumnSelection();
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-
-		addToCellSelection(cell);
-		updateColumnSelection();
-		redraw();
 	}
 
 	/**
@@ -8518,27 +9937,31 @@ public class Grid extends Canvas {
 	 */
 	public void selectCells(final Point[] cells) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!cellSelectionEnabled) {
+				return;
+			}
 
-		if (!cellSelectionEnabled) {
-			return;
-		}
+			if (cells == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			}
 
-		if (cells == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
-		}
+			for (final Point cell : cells) {
+				if (cell == null) {
+					SWT.error(SWT.ERROR_NULL_ARGUMENT);
+				}
+			}
 
-		for (final Point cell : cells) {
-			if (cell == null) {
-				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			for (final Point cell : cells) {
+				addToCellSelection(cell);
 			}
-		}
 
-		for (final Point cell : cells) {
-			addToCellSelection(cell);
+			updateColumnSelection();
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-
-		updateColumnSelection();
-		redraw();
 	}
 
 	/**
@@ -8554,7 +9977,12 @@ public class Grid extends Canvas {
 	 */
 	public void selectAllCells() {
 		checkWidget();
-		selectAllCellsInternal();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			selectAllCellsInternal();
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -8677,9 +10105,19 @@ public class Grid extends Canvas {
 	 */
 	public void selectColumn(final int col) {
 		checkWidget();
-		final Vector<Point> cells = new Vector<>();
-		getCells(getColumn(col), cells);
-		selectCells(cells.toArray(new Point[0]));
+		final GridEvents.Selection event = beginSelection();
+		try {
+			final GridColumn column = getColumn(col);
+			if (!hasSpanning && selectionType == GridSelectionType.MULTI) {
+				selectColumnCells(getColumnIndexes(new GridColumn[] { column }));
+				return;
+			}
+			final Vector<Point> cells = new Vector<>();
+			getCells(column, cells);
+			selectCells(cells.toArray(new Point[0]));
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -8716,9 +10154,18 @@ public class Grid extends Canvas {
 	 */
 	public void selectColumnGroup(final GridColumnGroup colGroup) {
 		checkWidget();
-		final Vector<Point> cells = new Vector<>();
-		getCells(colGroup, cells);
-		selectCells(cells.toArray(new Point[0]));
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!hasSpanning && selectionType == GridSelectionType.MULTI) {
+				selectColumnCells(getColumnIndexes(colGroup.getColumns()));
+				return;
+			}
+			final Vector<Point> cells = new Vector<>();
+			getCells(colGroup, cells);
+			selectCells(cells.toArray(new Point[0]));
+		} finally {
+			endSelection(event);
+		}
 	}
 
 	/**
@@ -8743,23 +10190,27 @@ public class Grid extends Canvas {
 	 */
 	public void setCellSelection(final Point cell) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!cellSelectionEnabled) {
+				return;
+			}
 
-		if (!cellSelectionEnabled) {
-			return;
-		}
+			if (cell == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			}
 
-		if (cell == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
-		}
+			if (!isValidCell(cell)) {
+				SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+			}
 
-		if (!isValidCell(cell)) {
-			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+			selectedCells.clear();
+			addToCellSelection(cell);
+			updateColumnSelection();
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-
-		selectedCells.clear();
-		addToCellSelection(cell);
-		updateColumnSelection();
-		redraw();
 	}
 
 	/**
@@ -8785,32 +10236,36 @@ public class Grid extends Canvas {
 	 */
 	public void setCellSelection(final Point[] cells) {
 		checkWidget();
+		final GridEvents.Selection event = beginSelection();
+		try {
+			if (!cellSelectionEnabled) {
+				return;
+			}
 
-		if (!cellSelectionEnabled) {
-			return;
-		}
+			if (cells == null) {
+				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			}
 
-		if (cells == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
-		}
+			for (final Point cell : cells) {
+				if (cell == null) {
+					SWT.error(SWT.ERROR_NULL_ARGUMENT);
+				}
 
-		for (final Point cell : cells) {
-			if (cell == null) {
-				SWT.error(SWT.ERROR_NULL_ARGUMENT);
+				if (!isValidCell(cell)) {
+					SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+				}
 			}
 
-			if (!isValidCell(cell)) {
-				SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+			selectedCells.clear();
+			for (final Point cell : cells) {
+				addToCellSelection(cell);
 			}
-		}
 
-		selectedCells.clear();
-		for (final Point cell : cells) {
-			addToCellSelection(cell);
+			updateColumnSelection();
+			redraw();
+		} finally {
+			endSelection(event);
 		}
-
-		updateColumnSelection();
-		redraw();
 	}
 
 	/**
@@ -8833,7 +10288,7 @@ public class Grid extends Canvas {
 	 */
 	public Point[] getCellSelection() {
 		checkWidget();
-		return selectedCells.toArray(new Point[selectedCells.size()]);
+		return selectedCells.toArray();
 	}
 
 	GridColumn getFocusColumn() {
@@ -9259,6 +10714,7 @@ public class Grid extends Canvas {
 	public void setFont(final Font font) {
 		dataVisualizer.setDefaultFont(font);
 		defaultFont = font;
+		invalidateAutoHeights();
 		super.setFont(font);
 	}
 
@@ -9314,6 +10770,11 @@ public class Grid extends Canvas {
 	 */
 	public void setItemCount(int count) {
 		checkWidget();
+		final GridEvents.SetItemCount event = new GridEvents.SetItemCount();
+		event.begin();
+		if (event.isEnabled()) {
+			event.previousRows = items.size();
+		}
 		setRedraw(false);
 		if (count < 0) {
 			count = 0;
@@ -9322,29 +10783,104 @@ public class Grid extends Canvas {
 		if (count < items.size()) {
 
 			selectedCells.clear();
+			rowSelection.truncate(count);
+			final int removedCount = items.size() - count;
 			for (int i = items.size() - 1; i >= count; i--) {
 				final GridItem removed = items.remove(i);
 				rootItems.remove(i);
 
-				selectedItems.remove(removed);
-
 				if (removed.isVisible()) {
 					currentVisibleItems--;
 				}
 				removed.disposeOnly();
 			}
+			invalidateRowIndexes();
+			spanIndex.removeRows(count, removedCount);
 			if (!disposing) {
 				updateColumnSelection();
 			}
 			scrollValuesObsolete = true;
+			invalidateAutoHeights();
 			topIndex = -1;
 			bottomIndex = -1;
 		}
 
-		while (count > items.size()) {
-			new GridItem(this, SWT.NONE);
+		if (count > items.size()) {
+			addItemsInternal(count - items.size());
 		}
 		setRedraw(true);
+		event.end(this);
+	}
+
+	/**
+	 * Appends the given number of new root items to the receiver. Unlike
+	 * creating the items one by one, the item height, the row header width and
+	 * the scroll values are computed only once for the whole batch.
+	 *
+	 * @param count
+	 *            the number of items to add
+	 *
+	 * @exception org.eclipse.swt.SWTException
+	 *                <ul>
+	 *                <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *                disposed</li>
+	 *                <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+	 *                thread that created the receiver</li>
+	 *                </ul>
+	 */
+	public void addItems(final int count) {
+		checkWidget();
+		if (count > 0) {
+			addItemsInternal(count);
+		}
+	}
+
+	private void addItemsInternal(final int count) {
+		final int first = items.size();
+		if (streamingCapacity > 0) {
+			scheduleStreamUpdate();
+		}
+
+		addingItems = true;
+		try {
+			for (int i = 0; i < count; i++) {
+				new GridItem(this, SWT.NONE);
+			}
+		} finally {
+			addingItems = false;
+		}
+
+		estimate(sizingGC -> {
+			if (first == 0 && !userModifiedItemHeight) {
+				final GridItem item = items.get(0);
+				itemHeight = computeItemHeight(item, sizingGC);
+				// virtual problems here
+				if ((getStyle() & SWT.VIRTUAL) != 0) {
+					item.setHasSetData(false);
+				}
+			}
+
+			final boolean autoWidth = isRowHeaderVisible() && isAutoWidth();
+			for (int i = first; i < items.size(); i++) {
+				final GridItem item = items.get(i);
+				item.initializeHeight(itemHeight);
+				if (autoWidth) {
+					rowHeaderWidth = Math.max(rowHeaderWidth, //
+							computeRendererSize(rowHeaderRenderer, sizingGC, SWT.DEFAULT, SWT.DEFAULT, item).x);
+				}
+			}
+		});
+
+		scrollValuesObsolete = true;
+		invalidateAutoHeights();
+		topIndex = -1;
+		bottomIndex = -1;
+
+		if (streamingCapacity > 0) {
+			trimStream();
+		} else {
+			redraw();
+		}
 	}
 
 	/**
@@ -9606,18 +11142,17 @@ public class Grid extends Canvas {
 			@Override
 			public void getSelection(final AccessibleControlEvent e) {
 				e.childID = ACC.CHILDID_NONE;
-				if (selectedItems.size() == 1) {
+				if (rowSelection.size() == 1) {
 					// Single selection
-					e.childID = selectedItems.get(0).getRowIndex();
-				} else if (selectedItems.size() > 1) {
+					e.childID = rowSelection.next(0);
+				} else if (rowSelection.size() > 1) {
 					// multiple selection
 					e.childID = ACC.CHILDID_MULTIPLE;
-					final int length = selectedItems.size();
-					final Object[] children = new Object[length];
+					final int[] rows = rowSelection.toArray();
+					final Object[] children = new Object[rows.length];
 
-					for (int i = 0; i < length; i++) {
-						final GridItem item = selectedItems.get(i);
-						children[i] = Integer.valueOf(item.getRowIndex());
+					for (int i = 0; i < rows.length; i++) {
+						children[i] = Integer.valueOf(rows[i]);
 					}
 					e.children = children;
 				}
@@ -9633,7 +11168,7 @@ public class Grid extends Canvas {
 						e.detail |= ACC.STATE_FOCUSABLE;
 					}
 
-					if (selectedItems.contains(getItem(childID))) {
+					if (rowSelection.contains(childID)) {
 						e.detail |= ACC.STATE_SELECTED;
 						if (getDisplay().getActiveShell() == getParent().getShell()) {
 							e.detail |= ACC.STATE_FOCUSED;
@@ -9683,8 +11218,8 @@ public class Grid extends Canvas {
 		});
 
 		addListener(SWT.Selection, event -> {
-			if (selectedItems.size() > 0) {
-				accessible.setFocus(selectedItems.get(selectedItems.size() - 1).getRowIndex());
+			if (!rowSelection.isEmpty()) {
+				accessible.setFocus(rowSelection.last());
 			}
 		});
 
@@ -9720,6 +11255,26 @@ public class Grid extends Canvas {
 		this.hasSpanning = hasSpanning;
 	}
 
+	/**
+	 * Records that the row or column span of the given cell has changed.
+	 *
+	 * @param item
+	 *            item of the cell
+	 * @param column
+	 *            column index of the cell
+	 */
+	void updateCellSpan(final GridItem item, final int column) {
+		hasSpanning = true;
+		spanIndex.update(item, column);
+	}
+
+	/**
+	 * @return true if a cell of any item spans other cells
+	 */
+	boolean hasSpanning() {
+		return hasSpanning;
+	}
+
 	/**
 	 * Returns the receiver's tool tip text, or null if it has not been set.
 	 *
@@ -10183,60 +11738,46 @@ public class Grid extends Canvas {
 		return range;
 	}
 
+	/**
+	 * @param displayIndex
+	 *            position of the column in the display order
+	 * @return the column shown at the given position
+	 */
+	GridColumn getDisplayOrderedColumn(final int displayIndex) {
+		return displayOrderedColumns.get(displayIndex);
+	}
+
 	int getStartColumnIndex() {
 		checkWidget();
 
-		if (startColumnIndex != -1) {
-			return startColumnIndex;
-		}
-
-		if (!hScroll.getVisible()) {
-			startColumnIndex = 0;
+		// the offset table makes this a binary search, so there is no need to
+		// keep a cached value in sync with every horizontal scroll
+		startColumnIndex = Math.max(0, getDisplayIndexAfter(getHScrollSelectionInPixels()));
+		if (startColumnIndex >= displayOrderedColumns.size()) {
+			startColumnIndex = Math.max(0, displayOrderedColumns.size() - 1);
 		}
 
-		startColumnIndex = hScroll.getSelection();
-
 		return startColumnIndex;
 	}
 
 	int getEndColumnIndex() {
 		checkWidget();
 
-		if (endColumnIndex != -1) {
-			return endColumnIndex;
-		}
-
 		if (displayOrderedColumns.size() == 0) {
 			endColumnIndex = 0;
 		} else if (getVisibleGridWidth() < 1) {
 			endColumnIndex = getStartColumnIndex();
 		} else {
-			int x = 0;
-			x -= getHScrollSelectionInPixels();
-
+			int width = getClientArea().width;
 			if (rowHeaderVisible) {
 				// row header is actually painted later
-				x += rowHeaderWidth;
+				width -= rowHeaderWidth;
 			}
 
-			final int startIndex = getStartColumnIndex();
-			final GridColumn[] columns = new GridColumn[displayOrderedColumns.size()];
-			displayOrderedColumns.toArray(columns);
-
-			for (int i = startIndex; i < columns.length; i++) {
-				endColumnIndex = i;
-				final GridColumn column = columns[i];
-
-				if (column.isVisible()) {
-					x += column.getWidth();
-				}
-
-				if (x > getClientArea().width) {
-
-					break;
-				}
+			endColumnIndex = getDisplayIndexAt(getHScrollSelectionInPixels() + width);
+			if (endColumnIndex == -1) {
+				endColumnIndex = displayOrderedColumns.size() - 1;
 			}
-
 		}
 
 		endColumnIndex = Math.max(0, endColumnIndex);
@@ -10284,6 +11825,7 @@ public class Grid extends Canvas {
 		checkWidget();
 		autoHeight = enabled;
 		setRowsResizeable(false); // turn of resizing of row height since it conflicts with this property
+		invalidateAutoHeights();
 		redraw();
 	}
 
@@ -10298,6 +11840,171 @@ public class Grid extends Canvas {
 		return autoHeight;
 	}
 
+	/**
+	 * Sets the number of rows above and below the visible area which are
+	 * measured together with the visible rows when the auto-height feature is
+	 * enabled, so that their height is already known when they are scrolled
+	 * into view.
+	 *
+	 * @param rows
+	 *            number of rows measured beyond each edge of the visible area
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed
+	 *             </li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @throws IllegalArgumentException
+	 *             <ul>
+	 *             <li>ERROR_INVALID_ARGUMENT - if rows is negative</li>
+	 *             </ul>
+	 * @see #setAutoHeight(boolean)
+	 */
+	public void setAutoHeightMargin(final int rows) {
+		checkWidget();
+		if (rows < 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		autoHeightMargin = rows;
+		invalidateAutoHeights();
+	}
+
+	/**
+	 * Marks the auto heights obsolete, so the rows around the visible area are
+	 * measured again before the next paint. Called when data, columns or the
+	 * size of the receiver change.
+	 */
+	void invalidateAutoHeights() {
+		autoHeightsObsolete = true;
+	}
+
+	/**
+	 * Returns the number of rows above and below the visible area which are
+	 * measured together with the visible rows when the auto-height feature is
+	 * enabled.
+	 *
+	 * @return number of rows measured beyond each edge of the visible area
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed
+	 *             </li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread
+	 *             that created the receiver</li>
+	 *             </ul>
+	 * @see #setAutoHeightMargin(int)
+	 */
+	public int getAutoHeightMargin() {
+		checkWidget();
+		return autoHeightMargin;
+	}
+
+	/**
+	 * Measures the rows in and around the visible area when the auto-height
+	 * feature is enabled and applies the changed heights in one batch, so the
+	 * renderers do not have to resize rows while painting. Nothing is measured
+	 * unless the receiver was scrolled, resized or changed since the last
+	 * measurement.
+	 *
+	 * @return true if the height of any row has changed
+	 */
+	private boolean updateAutoHeights() {
+		if (!autoHeight || items.isEmpty()) {
+			return false;
+		}
+
+		int availableHeight = getClientArea().height + getTopRowOffset();
+		if (columnHeadersVisible) {
+			availableHeight -= headerHeight;
+		}
+		if (columnFootersVisible) {
+			availableHeight -= footerHeight;
+		}
+		final int visibleHeight = availableHeight;
+		final int topIndex = getTopIndex();
+		if (!autoHeightsObsolete && topIndex == measuredTopIndex && visibleHeight == measuredHeight) {
+			return false;
+		}
+
+		final boolean changed = measureAutoHeights(topIndex, visibleHeight);
+		// changes made by the measurement itself are already applied
+		autoHeightsObsolete = false;
+		measuredTopIndex = getTopIndex();
+		measuredHeight = visibleHeight;
+		return changed;
+	}
+
+	/**
+	 * Measures the rows from the top index down to the given height and the
+	 * margin rows around them.
+	 *
+	 * @return true if the height of any row has changed
+	 */
+	private boolean measureAutoHeights(final int topIndex, final int visibleHeight) {
+		final List<GridColumn> wrapColumns = new ArrayList<>();
+		for (final GridColumn column : columns) {
+			if (column.getWordWrap()) {
+				wrapColumns.add(column);
+			}
+		}
+		if (wrapColumns.isEmpty() && !(wordWrapRowHeader && rowHeaderVisible)) {
+			return false;
+		}
+
+		return estimateWithResult(sizingGC -> {
+			boolean changed = false;
+
+			int count = 0;
+			for (int i = topIndex - 1; i >= 0 && count < autoHeightMargin; i--) {
+				final GridItem item = items.get(i);
+				if (item.isVisible()) {
+					changed |= item.updateHeight(computeAutoHeight(item, wrapColumns, sizingGC));
+					count++;
+				}
+			}
+
+			// the new heights decide which rows are visible
+			int height = 0;
+			count = 0;
+			for (int i = topIndex; i < items.size() && (height < visibleHeight || count < autoHeightMargin); i++) {
+				final GridItem item = items.get(i);
+				if (item.isVisible()) {
+					changed |= item.updateHeight(computeAutoHeight(item, wrapColumns, sizingGC));
+					if (height < visibleHeight) {
+						height += item.getHeight() + 1;
+					} else {
+						count++;
+					}
+				}
+			}
+
+			return changed ? 1 : 0;
+		}) != 0;
+	}
+
+	/**
+	 * Computes the height of the given item needed by its word wrapped cells and
+	 * row header.
+	 *
+	 * @param item
+	 * @param wrapColumns
+	 *            columns with word wrapping enabled
+	 * @param gc
+	 *            GC used to measure
+	 * @return height of the item
+	 */
+	private int computeAutoHeight(final GridItem item, final List<GridColumn> wrapColumns, final GC gc) {
+		int height = 1;
+		for (final GridColumn column : wrapColumns) {
+			height = Math.max(height, computeRendererSize(column.getCellRenderer(), gc,
+					column.getWidth(), SWT.DEFAULT, item).y);
+		}
+		if (wordWrapRowHeader && rowHeaderVisible) {
+			height = Math.max(height, computeRendererSize(rowHeaderRenderer, gc, rowHeaderWidth, SWT.DEFAULT, item).y);
+		}
+		return height;
+	}
+
 	/**
 	 * Sets the value of the auto-width feature. When enabled, this feature resizes
 	 * the width of the row headers to reflect the content of row headers.
@@ -10342,6 +12049,7 @@ public class Grid extends Canvas {
 
 		checkWidget();
 		wordWrapRowHeader = enabled;
+		invalidateAutoHeights();
 		redraw();
 	}
 
@@ -10373,6 +12081,7 @@ public class Grid extends Canvas {
 			for (final GridItem item : items) {
 				item.setHasSetData(false);
 			}
+			invalidateAutoHeights();
 		}
 	}
 
@@ -10399,7 +12108,8 @@ public class Grid extends Canvas {
 	private void computeRowHeaderWidth(final int minWidth) {
 		estimate(sizingGC -> {//
 			final int width = items.stream() //
-					.mapToInt(item -> rowHeaderRenderer.computeSize(sizingGC, SWT.DEFAULT, SWT.DEFAULT, item).x) //
+					.mapToInt(item -> computeRendererSize(rowHeaderRenderer, sizingGC,
+							SWT.DEFAULT, SWT.DEFAULT, item).x) //
 					.max() //
 					.orElse(minWidth);
 			rowHeaderWidth = width > minWidth ? width : minWidth;
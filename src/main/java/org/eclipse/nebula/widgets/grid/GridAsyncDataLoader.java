@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads the data of the root items of a virtual grid through a
+ * {@link GridAsyncDataProvider}. Items requested while a frame is painted are
+ * collected and submitted as batches once the frame is done. Finished batches
+ * are applied together in a single asyncExec, which redraws only the rows that
+ * got their data. Batches whose rows have all scrolled away are cancelled and
+ * their rows requested again when they become visible.
+ * <p>
+ * All methods except the worker task run on the UI thread.
+ */
+class GridAsyncDataLoader<T> {
+	/** Maximum number of rows loaded by one call of the provider */
+	static final int MAX_BATCH_SIZE = 256;
+
+	/** Delay in milliseconds before the rows of a failed batch are retried */
+	private static final int RETRY_DELAY = 500;
+
+	/** Maximum delay before the rows of a failed batch are retried */
+	private static final int MAX_RETRY_DELAY = 30000;
+
+	private final class Batch implements Runnable {
+		final GridItem[] items;
+		final int[] rows;
+		final int epoch;
+		final long droppedRows;
+		volatile boolean cancelled;
+		FutureTask<Void> future;
+		List<T> data;
+		Throwable error;
+
+		Batch(GridItem[] items, int[] rows) {
+			this.items = items;
+			this.rows = rows;
+			this.epoch = grid.columnsEpoch;
+			this.droppedRows = grid.droppedRows;
+		}
+
+		/**
+		 * Loads the rows on the worker thread.
+		 */
+		@Override
+		public void run() {
+			if (cancelled) {
+				return;
+			}
+			try {
+				data = provider.load(rows);
+				if (data == null || data.size() != rows.length) {
+					throw new IllegalStateException("Provider returned " + (data == null ? "null" : data.size())
+							+ " values for " + rows.length + " rows");
+				}
+			} catch (Throwable e) {
+				if (cancelled) {
+					return;
+				}
+				data = null;
+				error = e;
+			}
+			completed.add(this);
+			if (applyScheduled.compareAndSet(false, true)) {
+				try {
+					grid.getDisplay().asyncExec(applyCompleted);
+				} catch (RuntimeException e) {
+					// display disposed, nothing left to apply to
+				}
+			}
+		}
+	}
+
+	private final Grid grid;
+	private final GridAsyncDataProvider<T> provider;
+	private final Executor executor;
+	private final ExecutorService ownExecutor;
+
+	/** items requested since the last submit */
+	private final List<GridItem> requested = new ArrayList<>();
+	private boolean submitScheduled;
+	private final List<Batch> running = new ArrayList<>();
+
+	private final ConcurrentLinkedQueue<Batch> completed = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean applyScheduled = new AtomicBoolean();
+	private final Runnable applyCompleted = this::applyCompleted;
+	private boolean disposed;
+
+	/** items of failed batches kept pending until they are retried */
+	private final List<GridItem> failed = new ArrayList<>();
+	private final Runnable retryFailed = this::retryFailed;
+	private int retryDelay = RETRY_DELAY;
+
+	/**
+	 * @param grid
+	 *            grid to fill
+	 * @param provider
+	 *            data provider
+	 * @param executor
+	 *            executor running the provider, or null to use a daemon thread
+	 *            of this loader
+	 */
+	GridAsyncDataLoader(Grid grid, GridAsyncDataProvider<T> provider, Executor executor) {
+		this.grid = grid;
+		this.provider = provider;
+		if (executor == null) {
+			ownExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "Grid data loader");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.executor = ownExecutor;
+		} else {
+			ownExecutor = null;
+			this.executor = executor;
+		}
+	}
+
+	/**
+	 * @return the provider
+	 */
+	GridAsyncDataProvider<T> getProvider() {
+		return provider;
+	}
+
+	/**
+	 * Requests the data of the given item. The item must already be marked as
+	 * pending.
+	 *
+	 * @param item
+	 */
+	void request(GridItem item) {
+		requested.add(item);
+		if (!submitScheduled) {
+			submitScheduled = true;
+			grid.getDisplay().asyncExec(this::submit);
+		}
+	}
+
+	/**
+	 * Cancels the running batches which no longer cover any row in or near the
+	 * visible area, then submits the requested items.
+	 */
+	private void submit() {
+		submitScheduled = false;
+		if (disposed || grid.isDisposed()) {
+			return;
+		}
+
+		final int margin = Math.max(grid.getBottomIndex() - grid.getTopIndex(), 1);
+		final int first = grid.getTopIndex() - margin;
+		final int last = grid.getBottomIndex() + margin;
+		for (Iterator<Batch> it = running.iterator(); it.hasNext();) {
+			Batch batch = it.next();
+			if (isStale(batch, first, last)) {
+				it.remove();
+				cancel(batch);
+			}
+		}
+
+		requested.removeIf(item -> item.isDisposed() || !item.isDataPending());
+		requested.sort((a, b) -> Integer.compare(a.getRowIndex(), b.getRowIndex()));
+		for (int start = 0; start < requested.size(); start += MAX_BATCH_SIZE) {
+			int size = Math.min(requested.size() - start, MAX_BATCH_SIZE);
+			GridItem[] items = new GridItem[size];
+			int[] rows = new int[size];
+			for (int i = 0; i < size; i++) {
+				items[i] = requested.get(start + i);
+				rows[i] = items[i].getRowIndex();
+			}
+			Batch batch = new Batch(items, rows);
+			batch.future = new FutureTask<>(batch, null);
+			running.add(batch);
+			executor.execute(batch.future);
+		}
+		requested.clear();
+	}
+
+	private boolean isStale(Batch batch, int first, int last) {
+		for (GridItem item : batch.items) {
+			if (!item.isDisposed() && item.isDataPending()) {
+				int row = item.getRowIndex();
+				if (row >= first && row <= last) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stops a batch and lets its rows be requested again.
+	 */
+	private void cancel(Batch batch) {
+		batch.cancelled = true;
+		if (batch.future != null) {
+			batch.future.cancel(true);
+		}
+		for (GridItem item : batch.items) {
+			if (!item.isDisposed() && item.isDataPending()) {
+				item.resetDataPending();
+			}
+		}
+	}
+
+	/**
+	 * Applies all finished batches and redraws their rows.
+	 */
+	private void applyCompleted() {
+		applyScheduled.set(false);
+		if (disposed || grid.isDisposed()) {
+			completed.clear();
+			return;
+		}
+
+		Batch batch;
+		while ((batch = completed.poll()) != null) {
+			running.remove(batch);
+			if (batch.cancelled) {
+				continue;
+			}
+			if (batch.error != null) {
+				// the rows stay pending, so painting does not request them
+				// again until the retry delay has passed
+				if (failed.isEmpty()) {
+					grid.getDisplay().timerExec(retryDelay, retryFailed);
+					retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+				}
+				for (GridItem item : batch.items) {
+					if (!item.isDisposed() && item.isDataPending()) {
+						failed.add(item);
+					}
+				}
+				provider.failed(batch.rows, batch.error);
+				continue;
+			}
+			retryDelay = RETRY_DELAY;
+			for (int i = 0; i < batch.items.length; i++) {
+				GridItem item = batch.items[i];
+				if (item.isDisposed() || !item.isDataPending() || batch.epoch != grid.columnsEpoch) {
+					// the columns changed meanwhile, painting requests the item again
+					continue;
+				}
+				// rows dropped by the streaming mode move the others up
+				final int row = batch.rows[i] - (int) (grid.droppedRows - batch.droppedRows);
+				if (item.getRowIndex() != row) {
+					// rows were inserted or removed meanwhile
+					item.resetDataPending();
+				} else {
+					item.setDataPending(false);
+					// the item setters must not repaint the whole grid
+					grid.applyingData = true;
+					try {
+						provider.apply(item, row, batch.data.get(i));
+					} finally {
+						grid.applyingData = false;
+					}
+					if (grid.dataBudget != null && !item.isDisposed()) {
+						grid.dataBudget.loaded(item);
+					}
+				}
+				grid.redrawRow(item);
+			}
+		}
+	}
+
+	/**
+	 * Lets the rows of the failed batches be requested again.
+	 */
+	private void retryFailed() {
+		if (disposed || grid.isDisposed()) {
+			return;
+		}
+		for (GridItem item : failed) {
+			if (!item.isDisposed() && item.isDataPending()) {
+				item.resetDataPending();
+				grid.redrawRow(item);
+			}
+		}
+		failed.clear();
+	}
+
+	/**
+	 * Cancels all batches and releases the worker thread, if owned. Rows still
+	 * waiting for data will be requested again from whatever fills the grid
+	 * next.
+	 */
+	void dispose() {
+		disposed = true;
+		for (Batch batch : running) {
+			cancel(batch);
+		}
+		running.clear();
+		for (GridItem item : requested) {
+			if (!item.isDisposed() && item.isDataPending()) {
+				item.resetDataPending();
+			}
+		}
+		requested.clear();
+		for (GridItem item : failed) {
+			if (!item.isDisposed() && item.isDataPending()) {
+				item.resetDataPending();
+			}
+		}
+		failed.clear();
+		completed.clear();
+		if (ownExecutor != null) {
+			ownExecutor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.List;
+
+/**
+ * Source of the data of a virtual grid which is loaded off the UI thread. It
+ * replaces SWT.SetData for root items: rows which become visible are collected
+ * while the grid paints and passed to {@link #load(int[])} in batches on a
+ * worker thread. Until their data arrives the rows are painted with the
+ * placeholder renderer of the grid. The loaded values are then passed to
+ * {@link #apply(GridItem, int, Object)} on the UI thread.
+ * <p>
+ * Child items of a tree are still filled by SWT.SetData.
+ *
+ * @param <T>
+ *            type of the data of a row
+ * @see Grid#setAsyncDataProvider(GridAsyncDataProvider, java.util.concurrent.Executor)
+ */
+public interface GridAsyncDataProvider<T> {
+	/**
+	 * Loads the data of the given rows. Called on a worker thread, must not
+	 * access any widget. The thread is interrupted if the rows scroll out of
+	 * view before the batch is loaded.
+	 *
+	 * @param rows
+	 *            indexes of the requested rows in ascending order
+	 * @return data of each requested row, in the order of the rows
+	 * @throws Exception
+	 *             if the rows cannot be loaded
+	 */
+	public List<T> load(int[] rows) throws Exception;
+
+	/**
+	 * Fills an item with the loaded data, e.g. by calling
+	 * {@link GridItem#setText(int, String)}. Called on the UI thread. The grid
+	 * repaints only the row of the item afterwards; full redraws requested
+	 * meanwhile are skipped.
+	 *
+	 * @param item
+	 *            item to fill
+	 * @param row
+	 *            index of the row
+	 * @param data
+	 *            data returned by {@link #load(int[])} for the row
+	 */
+	public void apply(GridItem item, int row, T data);
+
+	/**
+	 * Called on the UI thread when loading a batch failed. The rows keep their
+	 * placeholders and are requested again the next time they are painted
+	 * after a delay. The delay doubles, up to 30 seconds, while batches keep
+	 * failing and is reset by a batch loaded successfully.
+	 *
+	 * @param rows
+	 *            indexes of the rows of the failed batch
+	 * @param error
+	 *            error thrown by {@link #load(int[])}
+	 */
+	public default void failed(int[] rows, Throwable error) {
+	}
+}
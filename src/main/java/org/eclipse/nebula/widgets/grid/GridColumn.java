@@ -104,7 +104,7 @@ public class GridColumn extends Item {
 	int getFooterHeight(final GC gc)
 	{
 		if(footerHeight == NOT_CALCULATED_YET) {
-			footerHeight = getFooterRenderer().computeSize(gc, getWidth(), SWT.DEFAULT, this).y;
+			footerHeight = parent.computeRendererSize(getFooterRenderer(), gc, getWidth(), SWT.DEFAULT, this).y;
 		}
 		return footerHeight;
 	}
@@ -112,7 +112,7 @@ public class GridColumn extends Item {
 	int getHeaderHeight(final GC gc)
 	{
 		if(headerHeight == NOT_CALCULATED_YET) {
-			headerHeight = getHeaderRenderer().computeSize(gc, getWidth(), SWT.DEFAULT, this).y;
+			headerHeight = parent.computeRendererSize(getHeaderRenderer(), gc, getWidth(), SWT.DEFAULT, this).y;
 		}
 		return headerHeight;
 	}
@@ -434,6 +434,7 @@ public class GridColumn extends Item {
 			}
 		}
 		this.width = widthToSet;
+		parent.invalidateColumnOffsets();
 		if (redraw) {
 			parent.setScrollValuesObsolete();
 			parent.redraw();
@@ -598,6 +599,7 @@ public class GridColumn extends Item {
 		final boolean before = isVisible();
 
 		this.visible = visible;
+		parent.invalidateColumnOffsets();
 
 		if (isVisible() != before) {
 			if (visible) {
@@ -632,6 +634,7 @@ public class GridColumn extends Item {
 				}
 			}
 
+			parent.invalidateAutoHeights();
 			parent.redraw();
 		}
 	}
@@ -650,8 +653,12 @@ public class GridColumn extends Item {
 	public void pack() {
 		checkWidget();
 
+		final GridEvents.PackColumn event = new GridEvents.PackColumn();
+		event.begin();
+		event.gridColumn = this;
+
 		final GC gc = new GC(parent);
-		int newWidth = getHeaderRenderer().computeSize(gc, SWT.DEFAULT,
+		int newWidth = parent.computeRendererSize(getHeaderRenderer(), gc, SWT.DEFAULT,
 				SWT.DEFAULT, this).x;
 
 		getCellRenderer().setColumn(index);
@@ -665,11 +672,12 @@ public class GridColumn extends Item {
 				final GridItem item = parent.getItem(i);
 				if (item.isVisible())
 				{
-					newWidth = Math.max(newWidth, getCellRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).x);
+					newWidth = Math.max(newWidth, parent.computeRendererSize(getCellRenderer(), gc,
+							SWT.DEFAULT, SWT.DEFAULT, item).x);
 					if (virtual && (i > bottomIndex || i < topIndex))
 					{
 						getParent().getDataVisualizer().clearRow(item);
-						item.setHasSetData(false);
+						item.resetDataPending();
 					}
 				}
 			}
@@ -682,11 +690,12 @@ public class GridColumn extends Item {
 				final GridItem item = parent.getItem(i);
 				if (item.isVisible())
 				{
-					newWidth = Math.max(newWidth, getCellRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).x);
+					newWidth = Math.max(newWidth, parent.computeRendererSize(getCellRenderer(), gc,
+							SWT.DEFAULT, SWT.DEFAULT, item).x);
 					if (virtual && (i > bottomIndex || i < topIndex))
 					{
 						getParent().getDataVisualizer().clearRow(item);
-						item.setHasSetData(false);
+						item.resetDataPending();
 					}
 				}
 			}
@@ -694,6 +703,8 @@ public class GridColumn extends Item {
 		gc.dispose();
 		setWidth(newWidth);
 		parent.redraw();
+
+		event.end(parent);
 	}
 
 	/**
@@ -1072,6 +1083,7 @@ public class GridColumn extends Item {
 	public void setDetail(final boolean detail) {
 		checkWidget();
 		this.detail = detail;
+		parent.invalidateColumnOffsets();
 	}
 
 	/**
@@ -1110,6 +1122,7 @@ public class GridColumn extends Item {
 	public void setSummary(final boolean summary) {
 		checkWidget();
 		this.summary = summary;
+		parent.invalidateColumnOffsets();
 	}
 
 	/**
@@ -1283,6 +1296,7 @@ public class GridColumn extends Item {
 	public void setWordWrap(final boolean wordWrap) {
 		checkWidget();
 		cellRenderer.setWordWrap(wordWrap);
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
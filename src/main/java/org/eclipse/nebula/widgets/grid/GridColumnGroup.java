@@ -315,6 +315,7 @@ public class GridColumnGroup extends Item
         checkWidget();
 
         this.expanded = expanded;
+        parent.invalidateColumnOffsets();
 
         if (!expanded && getParent().getCellSelectionEnabled())
         {
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Limits the number of rows of a virtual grid which keep their data. Rows are
+ * recorded when their data is set and kept in least recently painted order.
+ * After every frame the least recently painted rows are evicted until the
+ * budget is met: their values are cleared from the data visualizer and they
+ * are marked as not having data, so they are requested again when painted.
+ * Rows painted in the current frame are never evicted.
+ * <p>
+ * The size of a row is estimated from the lengths of its texts, other values
+ * are not counted.
+ */
+class GridDataBudget {
+	/** Estimated bytes of the row storage of one row in the visualizer */
+	private static final int ROW_BYTES = 96;
+
+	/** Estimated bytes of a string object besides its characters */
+	private static final int TEXT_BYTES = 40;
+
+	private static final class Entry {
+		final long bytes;
+		int frame;
+
+		Entry(long bytes, int frame) {
+			this.bytes = bytes;
+			this.frame = frame;
+		}
+	}
+
+	private final Grid grid;
+	private final int maxRows;
+	private final long maxBytes;
+
+	/** rows with data, least recently painted first */
+	private final LinkedHashMap<GridItem, Entry> rows = new LinkedHashMap<>(256, 0.75f, true);
+	private long bytes;
+	private int frame;
+
+	/**
+	 * @param grid
+	 * @param maxRows
+	 *            maximum number of rows with data, 0 for no limit
+	 * @param maxBytes
+	 *            maximum estimated bytes of data, 0 for no limit
+	 */
+	GridDataBudget(Grid grid, int maxRows, long maxBytes) {
+		this.grid = grid;
+		this.maxRows = maxRows;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * @return maximum number of rows with data, 0 for no limit
+	 */
+	int getMaxRows() {
+		return maxRows;
+	}
+
+	/**
+	 * @return maximum estimated bytes of data, 0 for no limit
+	 */
+	long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Records that the data of the item has been set.
+	 *
+	 * @param item
+	 */
+	void loaded(GridItem item) {
+		Entry entry = new Entry(estimate(item), frame);
+		Entry old = rows.put(item, entry);
+		if (old != null) {
+			bytes -= old.bytes;
+		}
+		bytes += entry.bytes;
+	}
+
+	/**
+	 * Records that the item is painted in the current frame.
+	 *
+	 * @param item
+	 */
+	void painted(GridItem item) {
+		Entry entry = rows.get(item);
+		if (entry != null) {
+			entry.frame = frame;
+		}
+	}
+
+	/**
+	 * Forgets the item, e.g. because it is disposed or cleared.
+	 *
+	 * @param item
+	 */
+	void remove(GridItem item) {
+		Entry entry = rows.remove(item);
+		if (entry != null) {
+			bytes -= entry.bytes;
+		}
+	}
+
+	/**
+	 * Forgets all items.
+	 */
+	void clear() {
+		rows.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Evicts the least recently painted rows exceeding the budget and starts a
+	 * new frame.
+	 */
+	void frameDone() {
+		final DataVisualizer visualizer = grid.getDataVisualizer();
+		for (Iterator<Map.Entry<GridItem, Entry>> it = rows.entrySet().iterator(); it.hasNext()
+				&& isExceeded();) {
+			Map.Entry<GridItem, Entry> next = it.next();
+			if (next.getValue().frame == frame) {
+				// everything from here on is on screen
+				break;
+			}
+			GridItem item = next.getKey();
+			it.remove();
+			bytes -= next.getValue().bytes;
+			if (!item.isDisposed()) {
+				visualizer.clearRow(item);
+				item.setHasSetData(false);
+			}
+		}
+		frame++;
+	}
+
+	private boolean isExceeded() {
+		return maxRows > 0 && rows.size() > maxRows || maxBytes > 0 && bytes > maxBytes;
+	}
+
+	private long estimate(GridItem item) {
+		final DataVisualizer visualizer = grid.getDataVisualizer();
+		long size = ROW_BYTES;
+		for (int column = grid.getColumnCount() - 1; column >= 0; column--) {
+			String text = visualizer.getText(item, column);
+			if (text != null && !text.isEmpty()) {
+				size += TEXT_BYTES + 2L * text.length();
+			}
+		}
+		return size;
+	}
+}
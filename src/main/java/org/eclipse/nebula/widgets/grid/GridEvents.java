@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.eclipse.swt.events.PaintEvent;
+
+/**
+ * Flight Recorder events emitted by the grid for its expensive operations.
+ * Every event records its duration and the number of rows and columns of the
+ * grid at its end, so that UI stalls can be correlated with garbage collection
+ * and other JVM activity.
+ * <p>
+ * An event is created and begun before the operation and ended after it. While
+ * no recording has the event enabled, {@link Event#shouldCommit()} is false
+ * and nothing else is evaluated, and the JIT compiler removes the allocation.
+ * The fields are filled in by {@link GridEvent#describe(Grid)} from transient
+ * references, which are not recorded; state from before the operation is
+ * only read if {@link Event#isEnabled()}.
+ */
+final class GridEvents {
+	private GridEvents() {
+	}
+
+	/**
+	 * Common fields of all grid events.
+	 */
+	@Category({ "Nebula", "Grid" })
+	abstract static class GridEvent extends Event {
+		@Label("Rows")
+		@Description("Number of rows of the grid")
+		int rows;
+
+		@Label("Columns")
+		@Description("Number of columns of the grid")
+		int columns;
+
+		/**
+		 * Ends the event and commits it with the current state of the grid if
+		 * it is enabled.
+		 *
+		 * @param grid
+		 */
+		final void end(final Grid grid) {
+			if (shouldCommit()) {
+				rows = grid.getItemCount();
+				columns = grid.getColumnCount();
+				describe(grid);
+				commit();
+			}
+		}
+
+		/**
+		 * Fills the fields of a subclass, only called if the event is committed.
+		 *
+		 * @param grid
+		 */
+		void describe(final Grid grid) {
+		}
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.Paint")
+	@Label("Grid Paint")
+	@Description("Paint of a frame of the grid")
+	static final class Paint extends GridEvent {
+		@Label("Width")
+		@Description("Width of the damaged area")
+		int width;
+
+		@Label("Height")
+		@Description("Height of the damaged area")
+		int height;
+
+		transient PaintEvent paintEvent;
+
+		@Override
+		void describe(final Grid grid) {
+			width = paintEvent.width;
+			height = paintEvent.height;
+		}
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.SetData")
+	@Label("Grid SetData")
+	@Description("SWT.SetData callback of a virtual grid")
+	static final class SetData extends GridEvent {
+		@Label("Index")
+		@Description("Index of the item among its siblings")
+		int index;
+
+		transient org.eclipse.swt.widgets.Event setDataEvent;
+
+		@Override
+		void describe(final Grid grid) {
+			index = setDataEvent.index;
+		}
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.PackColumn")
+	@Label("Grid Column Pack")
+	@Description("Column resized to its preferred width")
+	static final class PackColumn extends GridEvent {
+		@Label("Column")
+		@Description("Index of the packed column")
+		int column;
+
+		@Label("Width")
+		@Description("New width of the column")
+		int width;
+
+		transient GridColumn gridColumn;
+
+		@Override
+		void describe(final Grid grid) {
+			column = gridColumn.index;
+			width = gridColumn.getWidth();
+		}
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.SetItemCount")
+	@Label("Grid Item Count")
+	@Description("Change of the number of items of the grid")
+	static final class SetItemCount extends GridEvent {
+		@Label("Previous Rows")
+		@Description("Number of rows before the change")
+		int previousRows;
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.RemoveItems")
+	@Label("Grid Remove")
+	@Description("Removal of several items at once")
+	static final class RemoveItems extends GridEvent {
+		@Label("Previous Rows")
+		@Description("Number of rows before the removal")
+		int previousRows;
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.Selection")
+	@Label("Grid Selection")
+	@Description("Change of the selected rows or cells")
+	static final class Selection extends GridEvent {
+		@Label("Selected Rows")
+		int selectedRows;
+
+		@Label("Selected Cells")
+		int selectedCells;
+
+		@Override
+		void describe(final Grid grid) {
+			selectedRows = grid.getSelectionCount();
+			selectedCells = grid.getCellSelectionCount();
+		}
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.Expand")
+	@Label("Grid Expand")
+	@Description("Expansion or collapse of a tree item")
+	static final class Expand extends GridEvent {
+		@Label("Expanded")
+		boolean expanded;
+
+		@Label("Children")
+		@Description("Number of direct children of the item")
+		int children;
+
+		transient GridItem gridItem;
+
+		@Override
+		void describe(final Grid grid) {
+			expanded = gridItem.isExpanded();
+			children = gridItem.getItemCount();
+		}
+	}
+
+	@Name("org.eclipse.nebula.widgets.grid.UpdateScrollbars")
+	@Label("Grid Scrollbars Update")
+	@Description("Recomputation of the size and visibility of the scrollbars")
+	static final class UpdateScrollbars extends GridEvent {
+	}
+}
@@ -144,10 +144,32 @@ public class GridItem extends Item {
 	 */
 	private boolean hasSetData = false;
 
+	/**
+	 * Value of {@link Grid#columnsEpoch} when SWT.SetData was sent.
+	 */
+	private int setDataEpoch;
+
+	/**
+	 * True while the data of this item is being loaded by the asynchronous data
+	 * provider of the grid.
+	 */
+	private boolean dataPending;
+
+	/**
+	 * Row index plus the row base of the grid at the time it was set, so that
+	 * dropping rows from the top of a streaming grid does not renumber the
+	 * remaining items.
+	 */
 	private int row = NO_ROW;
 
 	private final Object ROW_LOCK = new Object();
 
+	/**
+	 * Storage slot assigned by {@link ColumnarDataVisualizer}, -1 if the item
+	 * has no slot yet.
+	 */
+	int dataSlot = -1;
+
 	/**
 	 * Creates a new instance of this class and places the item at the end of
 	 * the grid.
@@ -185,6 +207,9 @@ public class GridItem extends Item {
 	 * @throws IllegalArgumentException
 	 *             <ul>
 	 *             <li>ERROR_NULL_ARGUMENT - if the parent is null</li>
+	 *             <li>ERROR_INVALID_RANGE - if the index is 0 and the grid
+	 *             already holds its streaming capacity, see
+	 *             {@link Grid#setStreamingCapacity(int)}</li>
 	 *             </ul>
 	 * @throws org.eclipse.swt.SWTException
 	 *             <ul>
@@ -199,7 +224,7 @@ public class GridItem extends Item {
 
 		this.parent = parent;
 
-		row = parent.newItem(this, index, true);
+		setRowIndex(parent.newItem(this, index, true));
 		parent.newRootItem(this, index);
 	}
 
@@ -209,7 +234,7 @@ public class GridItem extends Item {
 	public int getRowIndex() {
 		synchronized (ROW_LOCK) {
 			if (row != NO_ROW)
-				return row;
+				return row - parent.rowBase;
 		}
 		return parent.indexOf(this);
 	}
@@ -226,6 +251,12 @@ public class GridItem extends Item {
 		}
 	}
 
+	void setRowIndex(int row) {
+		synchronized (ROW_LOCK) {
+			this.row = row + parent.rowBase;
+		}
+	}
+
 	/**
 	 * Creates a new instance of this class as a child node of the given
 	 * GridItem and places the item at the end of the parents items.
@@ -278,7 +309,7 @@ public class GridItem extends Item {
 		parentItem = parent;
 		this.parent = parentItem.getParent();
 
-		row = this.parent.newItem(this, index, false);
+		setRowIndex(this.parent.newItem(this, index, false));
 
 		level = parentItem.getLevel() + 1;
 
@@ -314,6 +345,9 @@ public class GridItem extends Item {
 		if (parent.getDataVisualizer() != null) {
 			parent.getDataVisualizer().clearRow(this);
 		}
+		if (parent.dataBudget != null) {
+			parent.dataBudget.remove(this);
+		}
 		noRow();
 		super.dispose();
 	}
@@ -551,18 +585,22 @@ public class GridItem extends Item {
 	 * @return width and height
 	 */
 	protected Point getCellSize(int columnIndex) {
+		int visualColumnIndex = parent.getColumnDisplayIndex(columnIndex);
+
+		if (!parent.hasSpanning()) {
+			/* no cell spans others, the cell is as large as its column and row */
+			int width = visualColumnIndex != -1 ? parent.getColumn(columnIndex).getWidth() : 0;
+			return new Point(width, getHeight());
+		}
+
 		/* width */
 		int width = 0;
 
 		int span = getColumnSpan(columnIndex);
 
 		int[] columnOrder = parent.getColumnOrder();
-		int visualColumnIndex = columnIndex;
-		for (int i = 0; i < columnOrder.length; i++) {
-			if (columnOrder[i] == columnIndex) {
-				visualColumnIndex = i;
-				break;
-			}
+		if (visualColumnIndex == -1) {
+			visualColumnIndex = columnIndex;
 		}
 
 		for (int i = 0; i <= span; i++) {
@@ -574,10 +612,9 @@ public class GridItem extends Item {
 		}
 
 		/* height */
-		int indexOfCurrentItem = parent.getIndexOfItem(this);
+		int indexOfCurrentItem = getRowIndex();
 
-		GridItem item = parent.getItem(indexOfCurrentItem);
-		int height = item.getHeight();
+		int height = getHeight();
 		span = getRowSpan(columnIndex);
 
 		int itemCount = parent.getItemCount();
@@ -588,7 +625,7 @@ public class GridItem extends Item {
 				break;
 			}
 
-			item = parent.getItem(indexOfCurrentItem + i);
+			GridItem item = parent.getItem(indexOfCurrentItem + i);
 			if (item.isVisible()) {
 				height += item.getHeight() + 1;
 			}
@@ -1191,8 +1228,12 @@ public class GridItem extends Item {
 	 */
 	public void setColumnSpan(int index, int span) {
 		checkWidget();
+		if (parent.getDataVisualizer().getColumnSpan(this, index) == span) {
+			return;
+		}
 		parent.getDataVisualizer().setColumnSpan(this, index, span);
-		parent.setHasSpanning(true);
+		parent.updateCellSpan(this, index);
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1214,8 +1255,12 @@ public class GridItem extends Item {
 	 */
 	public void setRowSpan(int index, int span) {
 		checkWidget();
+		if (parent.getDataVisualizer().getRowSpan(this, index) == span) {
+			return;
+		}
 		parent.getDataVisualizer().setRowSpan(this, index, span);
-		parent.setHasSpanning(true);
+		parent.updateCellSpan(this, index);
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1235,6 +1280,9 @@ public class GridItem extends Item {
 	 */
 	public void setExpanded(boolean expanded) {
 		checkWidget();
+		GridEvents.Expand event = new GridEvents.Expand();
+		event.begin();
+		event.gridItem = this;
 		this.expanded = expanded;
 
 		// We must unselect any items that are becoming invisible
@@ -1257,6 +1305,7 @@ public class GridItem extends Item {
 		if (getParent().getCellSelectionEnabled()) {
 			getParent().updateColumnSelection();
 		}
+		event.end(parent);
 	}
 
 	private boolean doUnselect(boolean expanded) {
@@ -1357,6 +1406,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		defaultFont = f;
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1388,6 +1438,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setFont(this, index, font);
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1515,6 +1566,7 @@ public class GridItem extends Item {
 		checkWidget();
 		if (newHeight < 1)
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		parent.updateItemHeight(this, newHeight - height);
 		height = newHeight;
 		parent.hasDifferingHeights = true;
 		if (isVisible()) {
@@ -1528,6 +1580,25 @@ public class GridItem extends Item {
 		parent.redraw();
 	}
 
+	/**
+	 * Sets the height as part of a batch of height changes. Unlike
+	 * {@link #setHeight(int)} this neither redraws nor marks the scroll values
+	 * obsolete, that is up to the caller once the batch is complete.
+	 *
+	 * @param newHeight
+	 *            new height
+	 * @return true if the height has changed
+	 */
+	boolean updateHeight(int newHeight) {
+		if (newHeight == height) {
+			return false;
+		}
+		parent.updateItemHeight(this, newHeight - height);
+		height = newHeight;
+		parent.hasDifferingHeights = true;
+		return true;
+	}
+
 	/**
 	 * Sets this <code>GridItem</code> to its preferred height.
 	 *
@@ -1557,7 +1628,7 @@ public class GridItem extends Item {
 			renderer.setTree(columns[cnt].isTree());
 			renderer.setWordWrap(columns[cnt].getWordWrap());
 
-			Point size = renderer.computeSize(gc, columns[cnt].getWidth(), SWT.DEFAULT, this);
+			Point size = parent.computeRendererSize(renderer, gc, columns[cnt].getWidth(), SWT.DEFAULT, this);
 			if (size != null)
 				maxPrefHeight = Math.max(maxPrefHeight, size.y);
 		}
@@ -1572,6 +1643,7 @@ public class GridItem extends Item {
 	@Override
 	public void setImage(Image image) {
 		parent.getDataVisualizer().setImage(this, 0, image);
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1604,6 +1676,7 @@ public class GridItem extends Item {
 
 		parent.imageSetOnItem(index, this);
 
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1632,6 +1705,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 		parent.getDataVisualizer().setText(this, index, text);
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1641,6 +1715,7 @@ public class GridItem extends Item {
 	@Override
 	public void setText(String string) {
 		parent.getDataVisualizer().setText(this, 0, string);
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1658,6 +1733,17 @@ public class GridItem extends Item {
 		hasChildren = !children.isEmpty();
 	}
 
+	/**
+	 * Drops all disposed items from the children of this item. Used by bulk
+	 * removal instead of removing children one by one.
+	 */
+	void removeDisposedChildren() {
+		if (hasChildren) {
+			children.removeIf(GridItem::isDisposed);
+			hasChildren = !children.isEmpty();
+		}
+	}
+
 	/**
 	 * Returns true if the item is visible because its parent items are all
 	 * expanded. This method does not determine if the item is in the currently
@@ -1714,9 +1800,9 @@ public class GridItem extends Item {
 		this.visible = visible;
 
 		if (visible) {
-			parent.updateVisibleItems(1);
+			parent.updateVisibleItems(this, 1);
 		} else {
-			parent.updateVisibleItems(NO_ROW);
+			parent.updateVisibleItems(this, -1);
 		}
 
 		if (hasChildren) {
@@ -1846,16 +1932,18 @@ public class GridItem extends Item {
 			GC gc = new GC(parent);
 
 			int oldWidth = headerText == null ? 0
-					: parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).x;
+					: parent.computeRendererSize(parent.getRowHeaderRenderer(), gc, SWT.DEFAULT, SWT.DEFAULT, this).x;
 
 			this.headerText = text;
 
-			int newWidth = parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).x;
+			int newWidth = parent.computeRendererSize(parent.getRowHeaderRenderer(), gc,
+					SWT.DEFAULT, SWT.DEFAULT, this).x;
 
 			gc.dispose();
 
 			parent.recalculateRowHeaderWidth(this, oldWidth, newWidth);
 		}
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1879,19 +1967,24 @@ public class GridItem extends Item {
 		if (image != headerImage) {
 			GC gc = new GC(parent);
 
-			int oldWidth = parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).x;
-			int oldHeight = parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).y;
+			int oldWidth = parent.computeRendererSize(parent.getRowHeaderRenderer(), gc,
+					SWT.DEFAULT, SWT.DEFAULT, this).x;
+			int oldHeight = parent.computeRendererSize(parent.getRowHeaderRenderer(), gc,
+					SWT.DEFAULT, SWT.DEFAULT, this).y;
 
 			this.headerImage = image;
 
-			int newWidth = parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).x;
-			int newHeight = parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).y;
+			int newWidth = parent.computeRendererSize(parent.getRowHeaderRenderer(), gc,
+					SWT.DEFAULT, SWT.DEFAULT, this).x;
+			int newHeight = parent.computeRendererSize(parent.getRowHeaderRenderer(), gc,
+					SWT.DEFAULT, SWT.DEFAULT, this).y;
 
 			gc.dispose();
 
 			parent.recalculateRowHeaderWidth(this, oldWidth, newWidth);
 			parent.recalculateRowHeaderHeight(this, oldHeight, newHeight);
 		}
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -1949,6 +2042,7 @@ public class GridItem extends Item {
 	public void setHeaderFont(Font headerFont) {
 		checkWidget();
 		this.headerFont=headerFont;
+		parent.invalidateAutoHeights();
 		parent.redraw();
 	}
 
@@ -2042,13 +2136,24 @@ public class GridItem extends Item {
 		parent.getDataVisualizer().setToolTipText(this, index, tooltip);
 	}
 
-	void columnAdded(int index) {
-		hasSetData = false;
-	}
-
-	private void handleVirtual() {
-		if ((getParent().getStyle() & SWT.VIRTUAL) != 0 && !hasSetData) {
+	/**
+	 * Requests the data of a virtual item which has not got it yet, either by
+	 * SWT.SetData or from the asynchronous data provider of the grid. The
+	 * latter is only asked while the grid paints.
+	 */
+	void handleVirtual() {
+		if ((getParent().getStyle() & SWT.VIRTUAL) != 0 && (!hasSetData || setDataEpoch != parent.columnsEpoch)) {
+			if (parentItem == null && parent.asyncDataLoader != null && !parent.painting) {
+				// measuring, sorting and accessibility get the default values
+				return;
+			}
 			hasSetData = true;
+			setDataEpoch = parent.columnsEpoch;
+			if (parentItem == null && parent.asyncDataLoader != null) {
+				dataPending = true;
+				parent.asyncDataLoader.request(this);
+				return;
+			}
 			Event event = new Event();
 			event.item = this;
 			if (parentItem == null) {
@@ -2056,7 +2161,17 @@ public class GridItem extends Item {
 			} else {
 				event.index = parentItem.indexOf(this);
 			}
+			if (parent.paintStats != null) {
+				parent.paintStats.setDataCallbacks++;
+			}
+			GridEvents.SetData setDataEvent = new GridEvents.SetData();
+			setDataEvent.begin();
+			setDataEvent.setDataEvent = event;
 			getParent().notifyListeners(SWT.SetData, event);
+			setDataEvent.end(parent);
+			if (parent.dataBudget != null && !isDisposed()) {
+				parent.dataBudget.loaded(this);
+			}
 		}
 	}
 
@@ -2072,6 +2187,32 @@ public class GridItem extends Item {
 
 	void setHasSetData(boolean hasSetData) {
 		this.hasSetData = hasSetData;
+		setDataEpoch = parent.columnsEpoch;
+	}
+
+	/**
+	 * @return true while the data of this item is being loaded asynchronously
+	 */
+	boolean isDataPending() {
+		return dataPending;
+	}
+
+	/**
+	 * @param dataPending
+	 *            true while the data of this item is being loaded
+	 *            asynchronously
+	 */
+	void setDataPending(boolean dataPending) {
+		this.dataPending = dataPending;
+	}
+
+	/**
+	 * Abandons the asynchronous loading of the data of this item, so that it is
+	 * requested again the next time it is needed.
+	 */
+	void resetDataPending() {
+		dataPending = false;
+		hasSetData = false;
 	}
 
 	/**
@@ -2088,6 +2229,11 @@ public class GridItem extends Item {
 		defaultFont = null;
 
 		hasSetData = false;
+		dataPending = false;
+		if (parent.dataBudget != null) {
+			parent.dataBudget.remove(this);
+		}
+		parent.invalidateAutoHeights();
 		headerText = null;
 		headerImage = null;
 		headerBackground = null;
@@ -2113,6 +2259,9 @@ public class GridItem extends Item {
 		if (parent.getDataVisualizer() != null) {
 			parent.getDataVisualizer().clearRow(this);
 		}
+		if (parent.dataBudget != null) {
+			parent.dataBudget.remove(this);
+		}
 		noRow();
 		super.dispose();
 	}
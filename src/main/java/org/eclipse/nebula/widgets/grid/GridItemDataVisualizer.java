@@ -14,7 +14,7 @@
 package org.eclipse.nebula.widgets.grid;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +63,17 @@ public class GridItemDataVisualizer implements DataVisualizer {
 	private final Map<GridItem, List<String>> texts = new HashMap<GridItem, List<String>>();
 	private final Map<GridItem, List<String>> toolTipTexts = new HashMap<GridItem, List<String>>();
 
+	/**
+	 * Maps logical column indexes to the physical positions used in the value
+	 * lists, so inserting or removing a column never touches row storage.
+	 * Positions of removed columns are reclaimed lazily by
+	 * {@link #compactColumns()}.
+	 */
+	private int[] physicalColumns = new int[16];
+	private int columnCount;
+	private int nextPhysicalColumn;
+	private int deadPhysicalColumns;
+
 	private Color defaultBackground;
 	private Color defaultForeground;
 	private Font defaultFont;
@@ -110,14 +121,15 @@ public class GridItemDataVisualizer implements DataVisualizer {
 	 */
 	protected <T> T getValueOrDefault(Map<GridItem, List<T>> map, GridItem gridItem, int column, T defaultValue) {
 
-		if (column < 0)
+		if (column < 0 || column >= columnCount)
 			return defaultValue;
 
 		List<T> list = map.get(gridItem);
-		if (list == null || column >= list.size())
+		int physicalColumn = physicalColumns[column];
+		if (list == null || physicalColumn >= list.size())
 			return defaultValue;
 
-		T t = list.get(column);
+		T t = list.get(physicalColumn);
 
 		if (t == null)
 			return defaultValue;
@@ -149,6 +161,18 @@ public class GridItemDataVisualizer implements DataVisualizer {
 		return getValueOrDefault(rowSpans, gridItem, column, 0);
 	}
 
+	/**
+	 * Returns false, the spans are only set through the items. Subclasses
+	 * computing spans in {@link #getColumnSpan(GridItem, int)} or
+	 * {@link #getRowSpan(GridItem, int)} have to return true.
+	 * 
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#hasComputedSpans()
+	 */
+	@Override
+	public boolean hasComputedSpans() {
+		return false;
+	}
+
 	/**
 	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getFont(org.eclipse.nebula.widgets.grid.GridItem, int)
 	 */
@@ -206,18 +230,43 @@ public class GridItemDataVisualizer implements DataVisualizer {
 	 * @param value
 	 */
 	protected <T> void put(Map<GridItem, List<T>> map, GridItem gridItem, int column, T value) {
+		int physicalColumn = mapColumn(column);
 		List<T> list = map.get(gridItem);
 		if (list == null) {
 			list = new ArrayList<T>();
 			map.put(gridItem, list);
 		}
-		while (column > list.size()) {
+		while (physicalColumn > list.size()) {
 			list.add(null);
 		}
-		if (list.size() > column) {
-			list.remove(column);
+		if (list.size() > physicalColumn) {
+			list.set(physicalColumn, value);
+		} else {
+			list.add(value);
+		}
+	}
+
+	/**
+	 * Returns the physical position of the given logical column, assigning new
+	 * positions to all unmapped columns up to the given one.
+	 *
+	 * @param column
+	 * @return physical position
+	 */
+	private int mapColumn(int column) {
+		if (column >= columnCount) {
+			ensureColumnCapacity(column + 1);
+			while (columnCount <= column) {
+				physicalColumns[columnCount++] = nextPhysicalColumn++;
+			}
+		}
+		return physicalColumns[column];
+	}
+
+	private void ensureColumnCapacity(int capacity) {
+		if (capacity > physicalColumns.length) {
+			physicalColumns = Arrays.copyOf(physicalColumns, Math.max(capacity, physicalColumns.length * 2));
 		}
-		list.add(column, value);
 	}
 
 	/**
@@ -337,7 +386,10 @@ public class GridItemDataVisualizer implements DataVisualizer {
 	}
 
 	/**
-	 * Remove in revertIndex
+	 * Remove in revertIndex. Removes the value at the given index from every
+	 * list of the map, shifting the following values. The storage of this
+	 * class no longer uses it, as its column positions are managed by the
+	 * column mapping, but subclasses may use it for their own maps.
 	 * 
 	 * @param map
 	 * @param column
@@ -351,21 +403,24 @@ public class GridItemDataVisualizer implements DataVisualizer {
 	}
 
 	/**
+	 * Only the column mapping is updated, the values of the removed column stay
+	 * in row storage until enough removed columns accumulate to make
+	 * {@link #compactColumns()} worthwhile.
+	 * 
 	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearColumn(int)
 	 */
 	@Override
 	public void clearColumn(int column) {
-		removeInvertIndex(texts, column);
-		removeInvertIndex(toolTipTexts, column);
-		removeInvertIndex(foregrounds, column);
-		removeInvertIndex(backgrounds, column);
-		removeInvertIndex(images, column);
-		removeInvertIndex(fonts, column);
-		removeInvertIndex(rowSpans, column);
-		removeInvertIndex(columnSpans, column);
-		removeInvertIndex(grayeds, column);
-		removeInvertIndex(checkables, column);
-		removeInvertIndex(checkeds, column);
+		if (column < 0 || column >= columnCount)
+			return;
+
+		System.arraycopy(physicalColumns, column + 1, physicalColumns, column, columnCount - column - 1);
+		columnCount--;
+		deadPhysicalColumns++;
+
+		if (deadPhysicalColumns > Math.max(columnCount, 16)) {
+			compactColumns();
+		}
 	}
 
 	/**
@@ -373,31 +428,49 @@ public class GridItemDataVisualizer implements DataVisualizer {
 	 */
 	@Override
 	public void addColumn(int column) {
-		addColumnToMap(texts, column);
-		addColumnToMap(toolTipTexts, column);
-		addColumnToMap(foregrounds, column);
-		addColumnToMap(backgrounds, column);
-		addColumnToMap(images, column);
-		addColumnToMap(fonts, column);
-		addColumnToMap(rowSpans, column);
-		addColumnToMap(columnSpans, column);
-		addColumnToMap(grayeds, column);
-		addColumnToMap(checkables, column);
-		addColumnToMap(checkeds, column);
-	}
-
-	private <T> void addColumnToMap(Map<GridItem, List<T>> map, int column) {
-		Collection<List<T>> collections = map.values();
-
-		if (collections != null) {
-			for (List<T> list : collections) {
-				if (!list.isEmpty()) {
-					for (int i = list.size(); i < column; i++) {
-						list.add(i, null);
-					}
-					list.add(column, null);
-				}
+		// columns after the last mapped one have no values yet, nothing to shift
+		if (column < 0 || column >= columnCount)
+			return;
+
+		ensureColumnCapacity(columnCount + 1);
+		System.arraycopy(physicalColumns, column, physicalColumns, column + 1, columnCount - column);
+		physicalColumns[column] = nextPhysicalColumn++;
+		columnCount++;
+	}
+
+	/**
+	 * Rewrites row storage so that physical positions match logical column
+	 * indexes again, dropping the values of removed columns.
+	 */
+	protected void compactColumns() {
+		compactColumns(texts);
+		compactColumns(toolTipTexts);
+		compactColumns(foregrounds);
+		compactColumns(backgrounds);
+		compactColumns(images);
+		compactColumns(fonts);
+		compactColumns(rowSpans);
+		compactColumns(columnSpans);
+		compactColumns(grayeds);
+		compactColumns(checkables);
+		compactColumns(checkeds);
+
+		for (int i = 0; i < columnCount; i++) {
+			physicalColumns[i] = i;
+		}
+		nextPhysicalColumn = columnCount;
+		deadPhysicalColumns = 0;
+	}
+
+	private <T> void compactColumns(Map<GridItem, List<T>> map) {
+		for (Map.Entry<GridItem, List<T>> entry : map.entrySet()) {
+			List<T> list = entry.getValue();
+			List<T> compacted = new ArrayList<T>(columnCount);
+			for (int i = 0; i < columnCount; i++) {
+				int physicalColumn = physicalColumns[i];
+				compacted.add(physicalColumn < list.size() ? list.get(physicalColumn) : null);
 			}
+			entry.setValue(compacted);
 		}
 	}
 
@@ -441,6 +514,9 @@ public class GridItemDataVisualizer implements DataVisualizer {
 		grayeds.clear();
 		checkables.clear();
 		checkeds.clear();
+		columnCount = 0;
+		nextPhysicalColumn = 0;
+		deadPhysicalColumns = 0;
 	}
 
 }
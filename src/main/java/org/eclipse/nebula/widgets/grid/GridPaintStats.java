@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+/**
+ * Statistics of a single frame painted by a {@link Grid}, see
+ * {@link GridPaintStatsListener}. Times are wall clock times in nanoseconds.
+ */
+public class GridPaintStats {
+	final Grid grid;
+
+	long totalNanos;
+	long layoutNanos;
+	long cellsNanos;
+	long rowHeadersNanos;
+	long headerNanos;
+	long footerNanos;
+
+	int rows;
+	int cells;
+	int rendererPaints;
+	int rendererComputeSizes;
+	int setDataCallbacks;
+	long textMeasurements;
+	long nativeTextMeasurements;
+
+	GridPaintStats(Grid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * @return the grid which painted the frame
+	 */
+	public Grid getGrid() {
+		return grid;
+	}
+
+	/**
+	 * @return time spent in the whole paint
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @return time spent measuring rows before painting, see
+	 *         {@link Grid#setAutoHeight(boolean)}
+	 */
+	public long getLayoutNanos() {
+		return layoutNanos;
+	}
+
+	/**
+	 * @return time spent painting cells, including empty cells and the focus
+	 */
+	public long getCellsNanos() {
+		return cellsNanos;
+	}
+
+	/**
+	 * @return time spent painting row headers
+	 */
+	public long getRowHeadersNanos() {
+		return rowHeadersNanos;
+	}
+
+	/**
+	 * @return time spent painting the column header
+	 */
+	public long getHeaderNanos() {
+		return headerNanos;
+	}
+
+	/**
+	 * @return time spent painting the column footer
+	 */
+	public long getFooterNanos() {
+		return footerNanos;
+	}
+
+	/**
+	 * @return number of rows painted, including empty rows below the last item
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * @return number of item cells painted
+	 */
+	public int getCells() {
+		return cells;
+	}
+
+	/**
+	 * @return number of calls of {@link IRenderer#paint(org.eclipse.swt.graphics.GC, Object)}
+	 */
+	public int getRendererPaints() {
+		return rendererPaints;
+	}
+
+	/**
+	 * @return number of calls of
+	 *         {@link IRenderer#computeSize(org.eclipse.swt.graphics.GC, int, int, Object)}
+	 *         made by the grid, its columns and items while painting, e.g. to
+	 *         measure auto heights or header heights. Calls a renderer makes
+	 *         on itself or on other renderers are not counted.
+	 */
+	public int getRendererComputeSizes() {
+		return rendererComputeSizes;
+	}
+
+	/**
+	 * @return number of {@link org.eclipse.swt.SWT#SetData} events sent
+	 */
+	public int getSetDataCallbacks() {
+		return setDataCallbacks;
+	}
+
+	/**
+	 * @return number of lookups of string extents, shortened strings and
+	 *         wrapped text heights in the
+	 *         {@link org.eclipse.nebula.widgets.grid.internal.TextMetricsCache}
+	 *         of the display while painting. Measurements made directly on a
+	 *         GC or TextLayout, e.g. {@link org.eclipse.swt.graphics.GC#textExtent(String)}
+	 *         or laying out the word wrapped text of a painted cell, are not
+	 *         counted.
+	 */
+	public long getTextMeasurements() {
+		return textMeasurements;
+	}
+
+	/**
+	 * @return number of the lookups counted by {@link #getTextMeasurements()}
+	 *         which were not cached and had to be done natively
+	 */
+	public long getNativeTextMeasurements() {
+		return nativeTextMeasurements;
+	}
+
+	@Override
+	public String toString() {
+		return "GridPaintStats [totalNanos=" + totalNanos + ", layoutNanos=" + layoutNanos + ", cellsNanos="
+				+ cellsNanos + ", rowHeadersNanos=" + rowHeadersNanos + ", headerNanos=" + headerNanos
+				+ ", footerNanos=" + footerNanos + ", rows=" + rows + ", cells=" + cells + ", rendererPaints="
+				+ rendererPaints + ", rendererComputeSizes=" + rendererComputeSizes + ", setDataCallbacks="
+				+ setDataCallbacks + ", textMeasurements=" + textMeasurements + ", nativeTextMeasurements="
+				+ nativeTextMeasurements + "]";
+	}
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+/**
+ * Listener informed about the cost of every frame painted by a {@link Grid}.
+ * Statistics are only collected while at least one listener is registered.
+ *
+ * @see Grid#addPaintStatsListener(GridPaintStatsListener)
+ */
+@FunctionalInterface
+public interface GridPaintStatsListener {
+	/**
+	 * Method called after the grid has painted a frame.
+	 *
+	 * @param stats
+	 *            statistics of the frame
+	 */
+	public void framePainted(GridPaintStats stats);
+}
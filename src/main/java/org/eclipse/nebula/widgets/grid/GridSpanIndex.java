@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the spanning cells of a grid. Every cell which was given a row or
+ * column span is recorded when the span is set, or found by
+ * {@link #scan(int, int)} when its row is painted if the data visualizer
+ * computes its spans. The spans of visible cells are kept as rectangles of
+ * rows and display ordered columns, sorted by their first row, with the
+ * largest last row of every subtree of the implicit binary search tree over
+ * that order (a static interval tree).
+ * <p>
+ * Finding the span covering a cell or the spans reaching into a row is
+ * O(log spans + spans crossing the row). The rectangles are rebuilt lazily in
+ * O(spans log spans) after rows, columns or spans change.
+ */
+class GridSpanIndex {
+	private final Grid grid;
+
+	/** columns with a span set, by item */
+	private final Map<GridItem, BitSet> anchors = new HashMap<>();
+
+	private boolean obsolete = true;
+
+	/** number of rows from the first one scanned at least once */
+	private int scannedRows;
+
+	/** largest row span found by a scan */
+	private int maxRowSpan;
+	private int size;
+	private GridItem[] items = new GridItem[0];
+	private int[] rows = new int[0];
+	private int[] lastRows = new int[0];
+	private int[] columns = new int[0];
+	private int[] lastColumns = new int[0];
+	private int[] maxLastRows = new int[0];
+
+	/**
+	 * @param grid
+	 *            grid to index
+	 */
+	GridSpanIndex(Grid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * Records that the span of the given cell has changed.
+	 *
+	 * @param item
+	 * @param column
+	 *            column index
+	 */
+	void update(GridItem item, int column) {
+		anchors.computeIfAbsent(item, k -> new BitSet()).set(column);
+		obsolete = true;
+	}
+
+	/**
+	 * Updates the recorded cells of the given rows from the spans the data
+	 * visualizer reports. Used for data visualizers with computed spans. Rows
+	 * above the first one are scanned as far as the largest row span seen so
+	 * far reaches, and every row is scanned once before its span is relied on,
+	 * so spans starting above the given rows are found. The rectangles are
+	 * only marked obsolete if a recorded cell changed.
+	 *
+	 * @param firstRow
+	 *            first row to scan
+	 * @param lastRow
+	 *            last row to scan
+	 * @return true if any cell spans others
+	 */
+	boolean scan(int firstRow, int lastRow) {
+		if (scannedRows <= lastRow) {
+			scanRows(scannedRows, lastRow);
+			scannedRows = lastRow + 1;
+		}
+		scanRows(Math.max(firstRow - maxRowSpan, 0), lastRow);
+		return !anchors.isEmpty();
+	}
+
+	/**
+	 * Updates the recorded cells of the given rows, see
+	 * {@link #scan(int, int)}.
+	 */
+	private void scanRows(int firstRow, int lastRow) {
+		DataVisualizer visualizer = grid.getDataVisualizer();
+		int columnCount = grid.getColumnCount();
+		for (int row = firstRow; row <= lastRow; row++) {
+			// asks the visualizer directly, so virtual rows are not filled
+			GridItem item = grid.getItem(row);
+			BitSet set = anchors.get(item);
+			for (int column = 0; column < columnCount; column++) {
+				int rowSpan = visualizer.getRowSpan(item, column);
+				maxRowSpan = Math.max(maxRowSpan, rowSpan);
+				boolean spans = rowSpan > 0 || visualizer.getColumnSpan(item, column) > 0;
+				if (spans == (set != null && set.get(column))) {
+					continue;
+				}
+				if (set == null) {
+					set = new BitSet();
+					anchors.put(item, set);
+				}
+				set.set(column, spans);
+				obsolete = true;
+			}
+			if (set != null && set.isEmpty()) {
+				anchors.remove(item);
+			}
+		}
+	}
+
+	/**
+	 * Records that a row has been inserted, which has not been scanned yet.
+	 *
+	 * @param row
+	 *            index of the inserted row
+	 */
+	void insertRow(int row) {
+		scannedRows = Math.min(scannedRows, row);
+		obsolete = true;
+	}
+
+	/**
+	 * Records that rows have been removed.
+	 *
+	 * @param firstRow
+	 *            index of the first removed row
+	 * @param count
+	 *            number of removed rows
+	 */
+	void removeRows(int firstRow, int count) {
+		if (firstRow < scannedRows) {
+			scannedRows = Math.max(firstRow, scannedRows - count);
+		}
+		obsolete = true;
+	}
+
+	/**
+	 * Marks the rectangles obsolete after a change of rows, columns or their
+	 * visibility.
+	 */
+	void invalidate() {
+		obsolete = true;
+	}
+
+	/**
+	 * Forgets all spans.
+	 */
+	void clear() {
+		anchors.clear();
+		scannedRows = 0;
+		maxRowSpan = 0;
+		obsolete = true;
+	}
+
+	/**
+	 * Shifts the recorded cells after a column has been inserted.
+	 *
+	 * @param column
+	 *            index of the inserted column
+	 */
+	void insertColumn(int column) {
+		for (Map.Entry<GridItem, BitSet> entry : anchors.entrySet()) {
+			BitSet set = entry.getValue();
+			BitSet shifted = set.get(0, column);
+			for (int i = set.nextSetBit(column); i >= 0; i = set.nextSetBit(i + 1)) {
+				shifted.set(i + 1);
+			}
+			entry.setValue(shifted);
+		}
+		obsolete = true;
+	}
+
+	/**
+	 * Shifts the recorded cells after a column has been removed.
+	 *
+	 * @param column
+	 *            index of the removed column
+	 */
+	void deleteColumn(int column) {
+		for (Map.Entry<GridItem, BitSet> entry : anchors.entrySet()) {
+			BitSet set = entry.getValue();
+			BitSet shifted = set.get(0, column);
+			for (int i = set.nextSetBit(column + 1); i >= 0; i = set.nextSetBit(i + 1)) {
+				shifted.set(i - 1);
+			}
+			entry.setValue(shifted);
+		}
+		obsolete = true;
+	}
+
+	/**
+	 * Finds the item of the span which covers the given cell, not counting a
+	 * span which starts at the cell itself.
+	 *
+	 * @param column
+	 *            display order index of the column
+	 * @param row
+	 *            row index
+	 * @return the spanning item or null if the cell is not covered
+	 */
+	GridItem getSpanningItem(int column, int row) {
+		if (column < 0) {
+			return null;
+		}
+		rebuild();
+		int i = find(0, size, column, row);
+		return i == -1 ? null : items[i];
+	}
+
+	/**
+	 * @param column
+	 *            display order index of the column
+	 * @param row
+	 *            row index
+	 * @return true if the cell is covered by a span of another cell
+	 */
+	boolean isCovered(int column, int row) {
+		return getSpanningItem(column, row) != null;
+	}
+
+	/**
+	 * Finds the first row with a span reaching down to the given row.
+	 *
+	 * @param row
+	 *            row index
+	 * @return index of the first row spanning into the row or the row itself
+	 */
+	int getFirstSpanningRow(int row) {
+		rebuild();
+		int i = find(0, size, -1, row);
+		return i == -1 ? row : rows[i];
+	}
+
+	/**
+	 * Searches the subtree of the given range for a matching span. The left
+	 * subtree is searched first, so the span with the lowest first row is
+	 * found.
+	 *
+	 * @param column
+	 *            column to cover or -1 for any span starting above the row
+	 */
+	private int find(int low, int high, int column, int row) {
+		if (low >= high) {
+			return -1;
+		}
+		int mid = (low + high) >>> 1;
+		if (maxLastRows[mid] < row) {
+			return -1;
+		}
+		int found = find(low, mid, column, row);
+		if (found != -1 || rows[mid] > row) {
+			return found;
+		}
+		if (lastRows[mid] >= row) {
+			if (column == -1 ? rows[mid] < row
+					: columns[mid] <= column && lastColumns[mid] >= column
+							&& (rows[mid] != row || columns[mid] != column)) {
+				return mid;
+			}
+		}
+		return find(mid + 1, high, column, row);
+	}
+
+	/**
+	 * Rebuilds the rectangles from the current spans, rows and columns if they
+	 * are obsolete.
+	 */
+	private void rebuild() {
+		if (!obsolete) {
+			return;
+		}
+		obsolete = false;
+
+		List<int[]> spans = new ArrayList<>();
+		List<GridItem> spanItems = new ArrayList<>();
+		int columnCount = grid.getColumnCount();
+		for (Iterator<Map.Entry<GridItem, BitSet>> it = anchors.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<GridItem, BitSet> entry = it.next();
+			GridItem item = entry.getKey();
+			BitSet set = entry.getValue();
+			if (item.isDisposed()) {
+				it.remove();
+				continue;
+			}
+			for (int column = set.nextSetBit(0); column >= 0; column = set.nextSetBit(column + 1)) {
+				int rowSpan = column < columnCount ? item.getRowSpan(column) : 0;
+				int columnSpan = column < columnCount ? item.getColumnSpan(column) : 0;
+				if (rowSpan <= 0 && columnSpan <= 0) {
+					set.clear(column);
+					continue;
+				}
+				if (!item.isVisible() || !grid.getColumn(column).isVisible()) {
+					continue;
+				}
+				int row = item.getRowIndex();
+				int displayColumn = grid.getColumnDisplayIndex(column);
+				spans.add(new int[] { row, row + Math.max(rowSpan, 0), displayColumn,
+						displayColumn + Math.max(columnSpan, 0), spanItems.size() });
+				spanItems.add(item);
+			}
+			if (set.isEmpty()) {
+				it.remove();
+			}
+		}
+		spans.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[2], b[2]));
+
+		size = spans.size();
+		if (items.length < size) {
+			items = new GridItem[size];
+			rows = new int[size];
+			lastRows = new int[size];
+			columns = new int[size];
+			lastColumns = new int[size];
+			maxLastRows = new int[size];
+		}
+		for (int i = 0; i < size; i++) {
+			int[] span = spans.get(i);
+			rows[i] = span[0];
+			lastRows[i] = span[1];
+			columns[i] = span[2];
+			lastColumns[i] = span[3];
+			items[i] = spanItems.get(span[4]);
+		}
+		for (int i = size; i < items.length; i++) {
+			items[i] = null;
+		}
+		buildMaxLastRows(0, size);
+	}
+
+	/**
+	 * @return the largest last row in the given range
+	 */
+	private int buildMaxLastRows(int low, int high) {
+		if (low >= high) {
+			return Integer.MIN_VALUE;
+		}
+		int mid = (low + high) >>> 1;
+		int max = Math.max(lastRows[mid],
+				Math.max(buildMaxLastRows(low, mid), buildMaxLastRows(mid + 1, high)));
+		maxLastRows[mid] = max;
+		return max;
+	}
+}
@@ -3,8 +3,11 @@ package org.eclipse.nebula.widgets.grid;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EventObject;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.nebula.widgets.grid.Grid.GridVisibleRange;
 import org.eclipse.swt.SWT;
@@ -14,15 +17,100 @@ import org.eclipse.swt.widgets.Listener;
  * This support class adds the possibility to get informed when the visual range
  * in the grid is modified. E.g. to implement clever resource management
  * <p>
+ * The range is checked once after all paints of a frame and compared by row
+ * and column indexes, listeners are only called when it actually changed.
+ * <p>
+ * It can also predict the next visible range of a virtual grid from the
+ * direction and velocity of scrolling and ask a {@link PrefetchProvider} to
+ * load the rows of a configurable number of pages ahead and behind, before
+ * they are painted.
+ * <p>
  * <b>This support is provisional and may change</b>
  * </p>
  */
 public class GridVisibleRangeSupport {
 	private Collection<VisibleRangeChangedListener> rangeChangeListener;
 	private Grid grid;
-	private GridVisibleRange oldRange = new GridVisibleRange();
 
-	private Listener paintListener = event -> calculateChange();
+	/**
+	 * Rows and visible columns of the range last reported, only the first
+	 * oldRowCount and oldColumnCount entries of the arrays are used
+	 */
+	private int oldTop = 0;
+	private int oldBottom = -1;
+	private int oldStartColumn = 0;
+	private int oldEndColumn = -1;
+	private GridItem[] oldRows = new GridItem[64];
+	private int oldRowCount;
+	private GridColumn[] oldColumns = new GridColumn[16];
+	private int oldColumnCount;
+
+	private boolean updateScheduled;
+
+	/**
+	 * Handles all paints of a frame at once, after they are done
+	 */
+	private final Runnable update = () -> {
+		updateScheduled = false;
+		if (grid.isDisposed()) {
+			return;
+		}
+		calculateChange();
+		prefetch();
+	};
+
+	private Listener paintListener = event -> {
+		if (!updateScheduled) {
+			updateScheduled = true;
+			grid.getDisplay().asyncExec(update);
+		}
+	};
+
+	/**
+	 * Time ahead for which the top index is extrapolated from the scroll
+	 * velocity
+	 */
+	private static final long PREDICTION_NANOS = 200_000_000L;
+
+	/**
+	 * Pause between paints after which scrolling is considered to have stopped
+	 */
+	private static final long IDLE_NANOS = 500_000_000L;
+
+	private PrefetchProvider prefetchProvider;
+	private int pagesAhead = 2;
+	private int pagesBehind = 1;
+	private int lastTopIndex = -1;
+	private long lastPaintNanos;
+	private int lastItemCount = -1;
+	private long lastDroppedRows;
+
+	/** scroll velocity in rows per second, positive when scrolling down */
+	private double velocity;
+
+	/** first and last prefetched row, none if the first is after the last */
+	private int prefetchedStart = 0;
+	private int prefetchedEnd = -1;
+
+	/**
+	 * Callback loading the data of rows before they become visible
+	 */
+	@FunctionalInterface
+	public interface PrefetchProvider {
+		/**
+		 * Method called when rows are predicted to become visible soon. Called on
+		 * the UI thread from an asyncExec after the grid painted a frame, so it
+		 * should only schedule the loading. A row is not passed again while it
+		 * stays within the prefetch window, overlapping requests are merged into
+		 * contiguous ranges.
+		 *
+		 * @param startIndex
+		 *            index of the first row to load
+		 * @param endIndex
+		 *            index of the last row to load (inclusive)
+		 */
+		public void prefetch(int startIndex, int endIndex);
+	}
 
 	/**
 	 * Listener notified when the visible range changes
@@ -39,7 +127,10 @@ public class GridVisibleRangeSupport {
 	}
 
 	/**
-	 * Event informing about the change
+	 * Event informing about the change. It holds the index ranges of the rows
+	 * and display ordered columns before and after the change, the items and
+	 * columns are only collected when asked for. The getters returning them
+	 * have to be called while the event is delivered.
 	 */
 	public static class RangeChangedEvent extends EventObject {
 		/**
@@ -47,36 +138,143 @@ public class GridVisibleRangeSupport {
 		 */
 		private static final long serialVersionUID = 1L;
 
+		private final transient GridVisibleRangeSupport support;
+		private final int topIndex;
+		private final int bottomIndex;
+		private final int startColumnIndex;
+		private final int endColumnIndex;
+		private final int oldTopIndex;
+		private final int oldBottomIndex;
+		private final int oldStartColumnIndex;
+		private final int oldEndColumnIndex;
+
+		private GridItem[] addedRows;
+		private GridItem[] removedRows;
+		private GridColumn[] addedColumns;
+		private GridColumn[] removedColumns;
+		private GridVisibleRange visibleRange;
+
+		RangeChangedEvent(GridVisibleRangeSupport support, int topIndex, int bottomIndex, int startColumnIndex,
+				int endColumnIndex) {
+			super(support.grid);
+			this.support = support;
+			this.topIndex = topIndex;
+			this.bottomIndex = bottomIndex;
+			this.startColumnIndex = startColumnIndex;
+			this.endColumnIndex = endColumnIndex;
+			this.oldTopIndex = support.oldTop;
+			this.oldBottomIndex = support.oldBottom;
+			this.oldStartColumnIndex = support.oldStartColumn;
+			this.oldEndColumnIndex = support.oldEndColumn;
+		}
+
+		/**
+		 * @return index of the first visible row, greater than the bottom index
+		 *         if no row is visible
+		 */
+		public int getTopIndex() {
+			return topIndex;
+		}
+
+		/**
+		 * @return index of the last visible row
+		 */
+		public int getBottomIndex() {
+			return bottomIndex;
+		}
+
+		/**
+		 * @return display index of the first visible column, greater than the
+		 *         end column index if no column is visible
+		 */
+		public int getStartColumnIndex() {
+			return startColumnIndex;
+		}
+
+		/**
+		 * @return display index of the last visible column
+		 */
+		public int getEndColumnIndex() {
+			return endColumnIndex;
+		}
+
 		/**
-		 * Rows new in the visible range
+		 * @return index of the first row visible before the change
 		 */
-		public GridItem[] addedRows;
+		public int getOldTopIndex() {
+			return oldTopIndex;
+		}
 
 		/**
-		 * Rows removed from the range
+		 * @return index of the last row visible before the change
 		 */
-		public GridItem[] removedRows;
+		public int getOldBottomIndex() {
+			return oldBottomIndex;
+		}
 
 		/**
-		 * Columns added to the range
+		 * @return display index of the first column visible before the change
 		 */
-		public GridColumn[] addedColumns;
+		public int getOldStartColumnIndex() {
+			return oldStartColumnIndex;
+		}
 
 		/**
-		 * Columns removed from the range
+		 * @return display index of the last column visible before the change
 		 */
-		public GridColumn[] removedColumns;
+		public int getOldEndColumnIndex() {
+			return oldEndColumnIndex;
+		}
 
 		/**
-		 * The current visible range
+		 * @return rows new in the visible range
 		 */
-		public GridVisibleRange visibleRange;
+		public GridItem[] getAddedRows() {
+			if (addedRows == null) {
+				addedRows = support.collectAddedRows(topIndex, bottomIndex);
+			}
+			return addedRows;
+		}
 
-		RangeChangedEvent(Grid grid, GridVisibleRange visibleRange) {
-			super(grid);
-			this.visibleRange = visibleRange;
+		/**
+		 * @return rows removed from the range
+		 */
+		public GridItem[] getRemovedRows() {
+			if (removedRows == null) {
+				removedRows = support.collectRemovedRows(topIndex, bottomIndex);
+			}
+			return removedRows;
 		}
 
+		/**
+		 * @return columns added to the range
+		 */
+		public GridColumn[] getAddedColumns() {
+			if (addedColumns == null) {
+				addedColumns = support.collectAddedColumns(startColumnIndex, endColumnIndex);
+			}
+			return addedColumns;
+		}
+
+		/**
+		 * @return columns removed from the range
+		 */
+		public GridColumn[] getRemovedColumns() {
+			if (removedColumns == null) {
+				removedColumns = support.collectRemovedColumns(startColumnIndex, endColumnIndex);
+			}
+			return removedColumns;
+		}
+
+		/**
+		 * @return the current visible range
+		 */
+		public GridVisibleRange getVisibleRange() {
+			if (visibleRange == null) {
+				visibleRange = support.grid.getVisibleRange();
+			}
+			return visibleRange;
+		}
 	}
 
 	private GridVisibleRangeSupport(Grid grid) {
@@ -113,60 +311,367 @@ public class GridVisibleRangeSupport {
 		}
 	}
 
+	/**
+	 * Set the provider loading rows ahead of the visible range
+	 *
+	 * @param provider
+	 *            the provider or null to stop prefetching
+	 */
+	public void setPrefetchProvider(PrefetchProvider provider) {
+		prefetchProvider = provider;
+		resetPrefetch();
+	}
+
+	/**
+	 * @return the provider loading rows ahead of the visible range or null
+	 */
+	public PrefetchProvider getPrefetchProvider() {
+		return prefetchProvider;
+	}
+
+	/**
+	 * Set the number of pages prefetched in and against the direction of
+	 * scrolling. A page is the number of rows currently visible.
+	 *
+	 * @param pagesAhead
+	 *            pages prefetched in the direction of scrolling (default 2)
+	 * @param pagesBehind
+	 *            pages prefetched against the direction of scrolling (default 1)
+	 */
+	public void setPrefetchPages(int pagesAhead, int pagesBehind) {
+		this.pagesAhead = Math.max(pagesAhead, 0);
+		this.pagesBehind = Math.max(pagesBehind, 0);
+	}
+
+	/**
+	 * @return pages prefetched in the direction of scrolling
+	 */
+	public int getPrefetchPagesAhead() {
+		return pagesAhead;
+	}
+
+	/**
+	 * @return pages prefetched against the direction of scrolling
+	 */
+	public int getPrefetchPagesBehind() {
+		return pagesBehind;
+	}
+
+	/**
+	 * Forget which rows have been prefetched, e.g. after the underlying data
+	 * has changed, so that they are requested again.
+	 */
+	public void resetPrefetch() {
+		prefetchedStart = 0;
+		prefetchedEnd = -1;
+	}
+
+	/**
+	 * Extrapolates the visible range from the scroll velocity and requests the
+	 * rows of the prefetch window which have not been requested yet.
+	 */
+	private void prefetch() {
+		if (prefetchProvider == null) {
+			return;
+		}
+
+		final int itemCount = grid.getItemCount();
+		if (itemCount != lastItemCount) {
+			// rows were added or removed, the indexes may have shifted
+			lastItemCount = itemCount;
+			resetPrefetch();
+		}
+		if (grid.droppedRows != lastDroppedRows) {
+			// the streaming mode dropped rows, the prefetched ones moved up
+			final int dropped = (int) Math.min(grid.droppedRows - lastDroppedRows, Integer.MAX_VALUE);
+			lastDroppedRows = grid.droppedRows;
+			prefetchedStart = Math.max(prefetchedStart - dropped, 0);
+			prefetchedEnd -= dropped;
+			if (lastTopIndex >= 0) {
+				lastTopIndex = Math.max(lastTopIndex - dropped, 0);
+			}
+		}
+		if (itemCount == 0) {
+			return;
+		}
+
+		final int top = grid.getTopIndex();
+		final int bottom = Math.max(grid.getBottomIndex(), top);
+		final long now = System.nanoTime();
+		if (lastTopIndex >= 0) {
+			final long elapsed = now - lastPaintNanos;
+			if (elapsed > IDLE_NANOS) {
+				velocity = 0;
+			} else if (elapsed > 0) {
+				velocity = velocity * 0.5 + (top - lastTopIndex) * 1e9 / elapsed * 0.5;
+			}
+		}
+		lastTopIndex = top;
+		lastPaintNanos = now;
+
+		final int page = bottom - top + 1;
+		final int predictedTop = Math.max(Math.min(top + (int) Math.round(velocity * PREDICTION_NANOS / 1e9),
+				itemCount - 1), 0);
+		final boolean up = velocity < 0;
+		final long start = (long) Math.min(top, predictedTop) - (long) (up ? pagesAhead : pagesBehind) * page;
+		final long end = (long) Math.max(bottom, predictedTop + page - 1)
+				+ (long) (up ? pagesBehind : pagesAhead) * page;
+		requestRange((int) Math.max(start, 0), (int) Math.min(end, itemCount - 1));
+	}
+
+	/**
+	 * Requests the rows of the window which are not prefetched yet. The rows
+	 * prefetched before and outside of the window are forgotten, so the
+	 * prefetched rows are the window afterwards.
+	 */
+	private void requestRange(int start, int end) {
+		final int keptStart = Math.max(prefetchedStart, start);
+		final int keptEnd = Math.min(prefetchedEnd, end);
+		if (keptStart > keptEnd) {
+			prefetchProvider.prefetch(start, end);
+		} else {
+			if (start < keptStart) {
+				prefetchProvider.prefetch(start, keptStart - 1);
+			}
+			if (keptEnd < end) {
+				prefetchProvider.prefetch(keptEnd + 1, end);
+			}
+		}
+		prefetchedStart = start;
+		prefetchedEnd = end;
+	}
+
+	/**
+	 * Compares the visible range with the one last reported and informs the
+	 * listeners if it changed. The comparison does not allocate, so it is
+	 * cheap when nothing changed.
+	 */
 	private void calculateChange() {
-		// FIXME Add back
 		if (rangeChangeListener == null) {
 			return;
 		}
-		GridVisibleRange range = grid.getVisibleRange();
 
-		ArrayList<GridItem> lOrigItems = new ArrayList<>();
-		lOrigItems.addAll(Arrays.asList(oldRange.getItems()));
+		int top = grid.getTopIndex();
+		int bottom = grid.getBottomIndex();
+		if (top > bottom || grid.getItemCount() == 0) {
+			top = 0;
+			bottom = -1;
+		}
+		int startColumn = grid.getStartColumnIndex();
+		int endColumn = grid.getEndColumnIndex();
+		if (startColumn > endColumn || grid.getColumnCount() == 0) {
+			startColumn = 0;
+			endColumn = -1;
+		}
 
-		ArrayList<GridItem> lNewItems = new ArrayList<>();
-		lNewItems.addAll(Arrays.asList(range.getItems()));
+		if (top == oldTop && bottom == oldBottom && startColumn == oldStartColumn && endColumn == oldEndColumn
+				&& sameRows(top, bottom) && sameColumns(startColumn, endColumn)) {
+			return;
+		}
 
-		Iterator<GridItem> newItemsIterator = lNewItems.iterator();
-		while (newItemsIterator.hasNext()) {
-			if (lOrigItems.remove(newItemsIterator.next())) {
-				newItemsIterator.remove();
+		RangeChangedEvent evt = new RangeChangedEvent(this, top, bottom, startColumn, endColumn);
+		for (VisibleRangeChangedListener listener : rangeChangeListener) {
+			listener.rangeChanged(evt);
+		}
+
+		remember(top, bottom, startColumn, endColumn);
+	}
+
+	/**
+	 * @return whether the rows of the reported range are still the same
+	 *         objects, i.e. no rows were inserted or removed in between
+	 */
+	private boolean sameRows(int top, int bottom) {
+		for (int i = top; i <= bottom; i++) {
+			if (grid.getItem(i) != oldRows[i - top]) {
+				return false;
 			}
 		}
+		return true;
+	}
 
-		ArrayList<GridColumn> lOrigColumns = new ArrayList<>();
-		lOrigColumns.addAll(Arrays.asList(oldRange.getColumns()));
+	/**
+	 * @return whether the visible columns of the reported range are still the
+	 *         same, i.e. no column was moved, hidden or shown in between
+	 */
+	private boolean sameColumns(int startColumn, int endColumn) {
+		int count = 0;
+		for (int i = startColumn; i <= endColumn; i++) {
+			GridColumn column = grid.getDisplayOrderedColumn(i);
+			if (column.isVisible()) {
+				if (count == oldColumnCount || oldColumns[count] != column) {
+					return false;
+				}
+				count++;
+			}
+		}
+		return count == oldColumnCount;
+	}
 
-		ArrayList<GridColumn> lNewColumns = new ArrayList<>();
-		lNewColumns.addAll(Arrays.asList(range.getColumns()));
+	/**
+	 * Stores the reported range, reusing the arrays.
+	 */
+	private void remember(int top, int bottom, int startColumn, int endColumn) {
+		final int rowCount = bottom - top + 1;
+		if (oldRows.length < rowCount) {
+			oldRows = new GridItem[Math.max(rowCount, oldRows.length * 2)];
+		}
+		for (int i = 0; i < rowCount; i++) {
+			oldRows[i] = grid.getItem(top + i);
+		}
+		if (rowCount < oldRowCount) {
+			// do not keep removed items alive
+			Arrays.fill(oldRows, rowCount, oldRowCount, null);
+		}
+		oldRowCount = rowCount;
 
-		Iterator<GridColumn> newColumnsIterator = lNewColumns.iterator();
-		while (newColumnsIterator.hasNext()) {
-			if (lOrigColumns.remove(newColumnsIterator.next())) {
-				newColumnsIterator.remove();
+		int columnCount = 0;
+		for (int i = startColumn; i <= endColumn; i++) {
+			GridColumn column = grid.getDisplayOrderedColumn(i);
+			if (column.isVisible()) {
+				if (columnCount == oldColumns.length) {
+					oldColumns = Arrays.copyOf(oldColumns, columnCount * 2);
+				}
+				oldColumns[columnCount++] = column;
 			}
 		}
+		if (columnCount < oldColumnCount) {
+			Arrays.fill(oldColumns, columnCount, oldColumnCount, null);
+		}
+		oldColumnCount = columnCount;
 
-		if (lOrigItems.size() != 0 || lNewItems.size() != 0 || lOrigColumns.size() != 0 || lNewColumns.size() != 0) {
-			RangeChangedEvent evt = new RangeChangedEvent(grid, range);
-			evt.addedRows = new GridItem[lNewItems.size()];
-			lNewItems.toArray(evt.addedRows);
+		oldTop = top;
+		oldBottom = bottom;
+		oldStartColumn = startColumn;
+		oldEndColumn = endColumn;
+	}
 
-			evt.removedRows = new GridItem[lOrigItems.size()];
-			lOrigItems.toArray(evt.removedRows);
+	/**
+	 * @return the current index of the first row of the reported range if the
+	 *         reported rows are all still in the grid, consecutive and in the
+	 *         same order, e.g. after scrolling or after rows were inserted or
+	 *         removed outside of them, otherwise -1
+	 */
+	private int currentOldTop() {
+		if (oldRowCount == 0 || oldRows[0].isDisposed()) {
+			return -1;
+		}
+		final int first = oldRows[0].getRowIndex();
+		if (first < 0 || first + oldRowCount > grid.getItemCount()) {
+			return -1;
+		}
+		for (int i = 1; i < oldRowCount; i++) {
+			if (grid.getItem(first + i) != oldRows[i]) {
+				return -1;
+			}
+		}
+		return first;
+	}
 
-			evt.addedColumns = new GridColumn[lNewColumns.size()];
-			lNewColumns.toArray(evt.addedColumns);
+	/**
+	 * @return the rows of the given range which are not in the reported range
+	 */
+	private GridItem[] collectAddedRows(int top, int bottom) {
+		final List<GridItem> added = new ArrayList<>();
+		final int first = oldRowCount == 0 ? 0 : currentOldTop();
+		if (first >= 0) {
+			// the reported rows are now at first .. last
+			final int last = first + oldRowCount - 1;
+			for (int i = top; i <= bottom; i++) {
+				if (i < first || i > last) {
+					added.add(grid.getItem(i));
+				}
+			}
+		} else {
+			final Set<GridItem> old = oldRowSet();
+			for (int i = top; i <= bottom; i++) {
+				GridItem item = grid.getItem(i);
+				if (!old.contains(item)) {
+					added.add(item);
+				}
+			}
+		}
+		return added.toArray(new GridItem[added.size()]);
+	}
 
-			evt.removedColumns = new GridColumn[lOrigColumns.size()];
-			lNewColumns.toArray(evt.removedColumns);
-			Iterator<VisibleRangeChangedListener> rangeChangeIterator = rangeChangeListener.iterator();
+	/**
+	 * @return the rows of the reported range which are not in the given range
+	 */
+	private GridItem[] collectRemovedRows(int top, int bottom) {
+		final List<GridItem> removed = new ArrayList<>();
+		final int first = currentOldTop();
+		if (first >= 0) {
+			for (int i = 0; i < oldRowCount; i++) {
+				if (first + i < top || first + i > bottom) {
+					removed.add(oldRows[i]);
+				}
+			}
+		} else if (oldRowCount > 0) {
+			final Set<GridItem> visible = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (int i = top; i <= bottom; i++) {
+				visible.add(grid.getItem(i));
+			}
+			for (int i = 0; i < oldRowCount; i++) {
+				if (!visible.contains(oldRows[i])) {
+					removed.add(oldRows[i]);
+				}
+			}
+		}
+		return removed.toArray(new GridItem[removed.size()]);
+	}
+
+	/**
+	 * @return the rows of the reported range as an identity set
+	 */
+	private Set<GridItem> oldRowSet() {
+		final Set<GridItem> old = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < oldRowCount; i++) {
+			old.add(oldRows[i]);
+		}
+		return old;
+	}
+
+	/**
+	 * @return the visible columns of the given range which are not in the
+	 *         reported range
+	 */
+	private GridColumn[] collectAddedColumns(int startColumn, int endColumn) {
+		final List<GridColumn> added = new ArrayList<>();
+		for (int i = startColumn; i <= endColumn; i++) {
+			GridColumn column = grid.getDisplayOrderedColumn(i);
+			if (column.isVisible() && indexOf(oldColumns, oldColumnCount, column) < 0) {
+				added.add(column);
+			}
+		}
+		return added.toArray(new GridColumn[added.size()]);
+	}
 
-			while (rangeChangeIterator.hasNext()) {
-				rangeChangeIterator.next().rangeChanged(evt);
+	/**
+	 * @return the columns of the reported range which are not visible in the
+	 *         given range
+	 */
+	private GridColumn[] collectRemovedColumns(int startColumn, int endColumn) {
+		final List<GridColumn> removed = new ArrayList<>();
+		for (int i = 0; i < oldColumnCount; i++) {
+			GridColumn column = oldColumns[i];
+			boolean visible = false;
+			for (int j = startColumn; j <= endColumn && !visible; j++) {
+				visible = grid.getDisplayOrderedColumn(j) == column && column.isVisible();
+			}
+			if (!visible) {
+				removed.add(column);
 			}
 		}
+		return removed.toArray(new GridColumn[removed.size()]);
+	}
 
-		oldRange = range;
+	private static int indexOf(Object[] array, int count, Object value) {
+		for (int i = 0; i < count; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	/**
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * List stored in a circular array. Like an ArrayList it has constant time
+ * random access and appending, but removing elements from the head is constant
+ * time too, which lets a grid drop its oldest rows while new ones are appended.
+ * Inserting or removing in the middle moves the elements of the shorter side.
+ *
+ * @param <E>
+ *            type of the elements
+ */
+class RingList<E> extends AbstractList<E> implements RandomAccess {
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private Object[] elements = new Object[16];
+	private int head;
+	private int size;
+
+	/**
+	 * Makes sure the list can hold the given number of elements without
+	 * growing.
+	 *
+	 * @param capacity
+	 */
+	void ensureCapacity(int capacity) {
+		if (capacity <= elements.length) {
+			return;
+		}
+		if (capacity > MAX_CAPACITY) {
+			throw new OutOfMemoryError("Required capacity " + capacity);
+		}
+		int length = elements.length;
+		while (length < capacity) {
+			length <<= 1;
+		}
+		Object[] grown = new Object[length];
+		for (int i = 0; i < size; i++) {
+			grown[i] = elements[slot(i)];
+		}
+		elements = grown;
+		head = 0;
+	}
+
+	private int slot(int index) {
+		return head + index & elements.length - 1;
+	}
+
+	private void checkIndex(int index, int bound) {
+		if (index < 0 || index >= bound) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		checkIndex(index, size);
+		return (E) elements[slot(index)];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E element) {
+		checkIndex(index, size);
+		int slot = slot(index);
+		E previous = (E) elements[slot];
+		elements[slot] = element;
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean add(E element) {
+		ensureCapacity(size + 1);
+		elements[slot(size)] = element;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(int index, E element) {
+		checkIndex(index, size + 1);
+		ensureCapacity(size + 1);
+		if (index < size / 2) {
+			head = head - 1 & elements.length - 1;
+			for (int i = 0; i < index; i++) {
+				elements[slot(i)] = elements[slot(i + 1)];
+			}
+		} else {
+			for (int i = size; i > index; i--) {
+				elements[slot(i)] = elements[slot(i - 1)];
+			}
+		}
+		elements[slot(index)] = element;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E remove(int index) {
+		E removed = get(index);
+		if (index < size / 2) {
+			for (int i = index; i > 0; i--) {
+				elements[slot(i)] = elements[slot(i - 1)];
+			}
+			elements[head] = null;
+			head = head + 1 & elements.length - 1;
+		} else {
+			for (int i = index; i < size - 1; i++) {
+				elements[slot(i)] = elements[slot(i + 1)];
+			}
+			elements[slot(size - 1)] = null;
+		}
+		size--;
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * Removes the given number of elements from the head of the list in time
+	 * proportional to the count only.
+	 *
+	 * @param count
+	 */
+	void removeFirst(int count) {
+		removeRange(0, count);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+		}
+		int count = toIndex - fromIndex;
+		if (count == 0) {
+			return;
+		}
+		if (fromIndex == 0) {
+			for (int i = 0; i < count; i++) {
+				elements[slot(i)] = null;
+			}
+			head = slot(count);
+		} else {
+			for (int i = toIndex; i < size; i++) {
+				elements[slot(i - count)] = elements[slot(i)];
+			}
+			for (int i = size - count; i < size; i++) {
+				elements[slot(i)] = null;
+			}
+		}
+		size -= count;
+		modCount++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean removeIf(Predicate<? super E> filter) {
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			E element = (E) elements[slot(i)];
+			if (!filter.test(element)) {
+				elements[slot(kept++)] = element;
+			}
+		}
+		if (kept == size) {
+			return false;
+		}
+		for (int i = kept; i < size; i++) {
+			elements[slot(i)] = null;
+		}
+		size = kept;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(elements, null);
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+}
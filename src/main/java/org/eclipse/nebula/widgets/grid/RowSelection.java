@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Arrays;
+
+/**
+ * Set of selected row indexes, stored as a bitmap. Testing and changing the
+ * selection state of a row is O(1); inserting or removing a row shifts the
+ * indexes of the following rows in O(rows / 64).
+ */
+class RowSelection {
+	private long[] words = new long[1];
+	private int size;
+
+	/**
+	 * @param row
+	 * @return true if the row is selected
+	 */
+	boolean contains(int row) {
+		int word = row >>> 6;
+		return row >= 0 && word < words.length && (words[word] & 1L << row) != 0;
+	}
+
+	/**
+	 * Selects the given row.
+	 *
+	 * @param row
+	 * @return true if the row was not selected before
+	 */
+	boolean add(int row) {
+		int word = row >>> 6;
+		if (word >= words.length) {
+			words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+		}
+		if ((words[word] & 1L << row) != 0) {
+			return false;
+		}
+		words[word] |= 1L << row;
+		size++;
+		return true;
+	}
+
+	/**
+	 * Selects all rows in the given range.
+	 *
+	 * @param start
+	 *            first row
+	 * @param end
+	 *            row after the last row
+	 */
+	void add(int start, int end) {
+		if (start >= end) {
+			return;
+		}
+		int first = start >>> 6;
+		int last = (end - 1) >>> 6;
+		if (last >= words.length) {
+			words = Arrays.copyOf(words, Math.max(last + 1, words.length * 2));
+		}
+		for (int word = first; word <= last; word++) {
+			long mask = -1L;
+			if (word == first) {
+				mask &= -1L << start;
+			}
+			if (word == last) {
+				mask &= -1L >>> -end;
+			}
+			size += Long.bitCount(mask & ~words[word]);
+			words[word] |= mask;
+		}
+	}
+
+	/**
+	 * Deselects the given row.
+	 *
+	 * @param row
+	 * @return true if the row was selected before
+	 */
+	boolean remove(int row) {
+		if (!contains(row)) {
+			return false;
+		}
+		words[row >>> 6] &= ~(1L << row);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Deselects all rows.
+	 */
+	void clear() {
+		Arrays.fill(words, 0);
+		size = 0;
+	}
+
+	/**
+	 * @return number of selected rows
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return true if no row is selected
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @param from
+	 *            first row to test
+	 * @return index of the first selected row at or after from, or -1 if there
+	 *         is none
+	 */
+	int next(int from) {
+		int word = from >>> 6;
+		if (from < 0 || word >= words.length) {
+			return -1;
+		}
+		long bits = words[word] & -1L << from;
+		while (bits == 0) {
+			if (++word == words.length) {
+				return -1;
+			}
+			bits = words[word];
+		}
+		return (word << 6) + Long.numberOfTrailingZeros(bits);
+	}
+
+	/**
+	 * @return index of the last selected row or -1 if there is none
+	 */
+	int last() {
+		for (int word = words.length - 1; word >= 0; word--) {
+			if (words[word] != 0) {
+				return (word << 6) + 63 - Long.numberOfLeadingZeros(words[word]);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return indexes of the selected rows in ascending order
+	 */
+	int[] toArray() {
+		int[] rows = new int[size];
+		int i = 0;
+		for (int row = next(0); row != -1; row = next(row + 1)) {
+			rows[i++] = row;
+		}
+		return rows;
+	}
+
+	/**
+	 * Inserts an unselected row, moving the selection of the given row and all
+	 * following rows down by one.
+	 *
+	 * @param row
+	 *            index of the inserted row
+	 */
+	void insert(int row) {
+		int word = row >>> 6;
+		if (word >= words.length) {
+			return;
+		}
+		if (words[words.length - 1] < 0) {
+			words = Arrays.copyOf(words, words.length * 2);
+		}
+		for (int i = words.length - 1; i > word; i--) {
+			words[i] = words[i] << 1 | words[i - 1] >>> 63;
+		}
+		long low = (1L << row) - 1;
+		words[word] = words[word] & low | (words[word] & ~low) << 1;
+	}
+
+	/**
+	 * Deletes the given row, moving the selection of all following rows up by
+	 * one.
+	 *
+	 * @param row
+	 *            index of the deleted row
+	 */
+	void delete(int row) {
+		int word = row >>> 6;
+		if (word >= words.length) {
+			return;
+		}
+		remove(row);
+		long low = (1L << row) - 1;
+		words[word] = words[word] & low | words[word] >>> 1 & ~low;
+		for (int i = word; i < words.length - 1; i++) {
+			words[i] |= words[i + 1] << 63;
+			words[i + 1] >>>= 1;
+		}
+	}
+
+	/**
+	 * Deletes all rows marked as removed, moving the selection of the remaining
+	 * rows up accordingly.
+	 *
+	 * @param removed
+	 *            removed flag of each row
+	 */
+	void delete(boolean[] removed) {
+		int[] rows = toArray();
+		clear();
+		int removedBefore = 0;
+		int current = 0;
+		for (int row : rows) {
+			for (; current < row; current++) {
+				if (removed[current]) {
+					removedBefore++;
+				}
+			}
+			if (!removed[row]) {
+				add(row - removedBefore);
+			}
+		}
+	}
+
+	/**
+	 * Deletes the given number of rows from the top, moving the selection of
+	 * the remaining rows up accordingly. Constant time if no row is selected.
+	 *
+	 * @param count
+	 *            number of deleted rows
+	 */
+	void deleteHead(int count) {
+		if (size == 0 || count <= 0) {
+			return;
+		}
+		int wordShift = count >>> 6;
+		int bitShift = count & 63;
+		for (int word = 0; word < wordShift && word < words.length; word++) {
+			size -= Long.bitCount(words[word]);
+		}
+		if (bitShift != 0 && wordShift < words.length) {
+			size -= Long.bitCount(words[wordShift] & (1L << bitShift) - 1);
+		}
+		for (int word = 0; word < words.length; word++) {
+			int source = word + wordShift;
+			long bits = source < words.length ? words[source] >>> bitShift : 0;
+			if (bitShift != 0 && source + 1 < words.length) {
+				bits |= words[source + 1] << 64 - bitShift;
+			}
+			words[word] = bits;
+		}
+	}
+
+	/**
+	 * Deselects all rows with an index of at least the given count.
+	 *
+	 * @param count
+	 *            number of remaining rows
+	 */
+	void truncate(int count) {
+		for (int row = next(count); row != -1; row = next(row + 1)) {
+			remove(row);
+		}
+	}
+}
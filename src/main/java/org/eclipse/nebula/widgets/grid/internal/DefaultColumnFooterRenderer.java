@@ -55,7 +55,7 @@ public class DefaultColumnFooterRenderer extends GridFooterRenderer
 
         x += leftMargin;
 
-        x += gc.stringExtent(column.getText()).x + rightMargin;
+        x += TextMetricsCache.get(gc).stringExtent(gc, column.getText()).x + rightMargin;
 
         int y = 0;
 
@@ -119,7 +119,7 @@ public class DefaultColumnFooterRenderer extends GridFooterRenderer
 
         if (column.getAlignment() == SWT.RIGHT)
         {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width)
             {
                 x += width - len;
@@ -127,7 +127,7 @@ public class DefaultColumnFooterRenderer extends GridFooterRenderer
         }
         else if (column.getAlignment() == SWT.CENTER)
         {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width)
             {
                 x += (width - len) / 2;
@@ -170,7 +170,7 @@ public class DefaultColumnFooterRenderer extends GridFooterRenderer
 
         Rectangle bounds = new Rectangle(x,y,0,0);
 
-        Point p = gc.stringExtent(column.getText());
+        Point p = TextMetricsCache.get(gc).stringExtent(gc, column.getText());
 
         bounds.height = p.y;
 
@@ -97,7 +97,7 @@ public class DefaultColumnGroupHeaderRenderer extends GridHeaderRenderer
 
         if (getHorizontalAlignment() == SWT.RIGHT)
         {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width)
             {
                 x += width - len;
@@ -105,7 +105,7 @@ public class DefaultColumnGroupHeaderRenderer extends GridHeaderRenderer
         }
         else if (getHorizontalAlignment() == SWT.CENTER)
         {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width)
             {
                 x += (width - len) / 2;
@@ -171,7 +171,7 @@ public class DefaultColumnGroupHeaderRenderer extends GridHeaderRenderer
 
         if (!isWordWrap())
         {
-          x += gc.stringExtent(group.getText()).x + rightMargin;
+          x += TextMetricsCache.get(gc).stringExtent(gc, group.getText()).x + rightMargin;
         }
         else
         {
@@ -279,7 +279,7 @@ public class DefaultColumnGroupHeaderRenderer extends GridHeaderRenderer
         GC gc = new GC(group.getParent());
         gc.setFont(group.getHeaderFont());
 
-        Point p = gc.stringExtent(group.getText());
+        Point p = TextMetricsCache.get(gc).stringExtent(gc, group.getText());
 
         bounds.height = p.y;
 
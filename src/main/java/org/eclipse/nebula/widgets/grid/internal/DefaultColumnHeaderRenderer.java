@@ -73,7 +73,7 @@ public class DefaultColumnHeaderRenderer extends GridHeaderRenderer
         }
         if (!isWordWrap())
         {
-          x += gc.stringExtent(column.getText()).x + rightMargin;
+          x += TextMetricsCache.get(gc).stringExtent(gc, column.getText()).x + rightMargin;
         }
         else
         {
@@ -178,7 +178,7 @@ public class DefaultColumnHeaderRenderer extends GridHeaderRenderer
 
         if (column.getAlignment() == SWT.RIGHT)
         {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width)
             {
                 x += width - len;
@@ -186,7 +186,7 @@ public class DefaultColumnHeaderRenderer extends GridHeaderRenderer
         }
         else if (column.getAlignment() == SWT.CENTER)
         {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width)
             {
                 x += (width - len) / 2;
@@ -362,7 +362,7 @@ public class DefaultColumnHeaderRenderer extends GridHeaderRenderer
 
         Rectangle bounds = new Rectangle(x,y,0,0);
 
-        Point p = gc.stringExtent(column.getText());
+        Point p = TextMetricsCache.get(gc).stringExtent(gc, column.getText());
 
         bounds.height = p.y;
 
@@ -16,7 +16,6 @@
 package org.eclipse.nebula.widgets.grid.internal;
 
 import org.eclipse.nebula.widgets.grid.AbstractRenderer;
-import org.eclipse.nebula.widgets.grid.GridColumn;
 import org.eclipse.nebula.widgets.grid.GridItem;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
@@ -47,6 +46,8 @@ public class DefaultRowHeaderRenderer extends AbstractRenderer
 
     private TextLayout textLayout;
 
+    private TextLayout measureLayout;
+
 	private int truncationStyle =SWT.CENTER;
 
 
@@ -179,7 +180,7 @@ public class DefaultRowHeaderRenderer extends AbstractRenderer
 
         if (!item.getParent().isWordWrapHeader())
         {
-            y += (getBounds().height - gc.stringExtent(text).y) / 2;
+            y += (getBounds().height - TextMetricsCache.get(gc).stringExtent(gc, text).y) / 2;
             gc.drawString(TextUtils.getShortStr(gc, text, width, truncationStyle), getBounds().x + x + selectionOffset, y + selectionOffset, true);
         }
         else
@@ -188,27 +189,6 @@ public class DefaultRowHeaderRenderer extends AbstractRenderer
           textLayout.setWidth(width < 1 ? 1 : width);
           textLayout.setText(text);
 
-          if (item.getParent().isAutoHeight())
-          {
-            // Look through all columns to get the max height needed for this item
-          int columnCount = item.getParent().getColumnCount();
-          int maxHeight = textLayout.getBounds().height + topMargin + bottomMargin;
-          for (int i=0; i<columnCount; i++)
-          {
-            GridColumn column = item.getParent().getColumn(i);
-            if (column.getWordWrap())
-            {
-              int height = column.getCellRenderer().computeSize(gc, column.getWidth(), SWT.DEFAULT, item).y;
-              maxHeight = Math.max(maxHeight, height);
-            }
-          }
-
-          if (maxHeight != item.getHeight())
-          {
-            item.setHeight(maxHeight);
-          }
-          }
-
           textLayout.draw(gc, getBounds().x + x + selectionOffset, y + selectionOffset);
         }
 
@@ -242,14 +222,29 @@ public class DefaultRowHeaderRenderer extends AbstractRenderer
         	x += image.getBounds().width + 5;
         }
 
-        x += gc.stringExtent(text).x + rightMargin;
+        int textWidth = wHint - x - rightMargin;
+
+        x += TextMetricsCache.get(gc).stringExtent(gc, text).x + rightMargin;
 
         int y = topMargin;
 
+        int textHeight = gc.getFontMetrics().getHeight();
+        if (item.getParent().isWordWrapHeader() && wHint != SWT.DEFAULT)
+        {
+            // height of the text wrapped to the given width the way paint does
+            if (measureLayout == null)
+            {
+                measureLayout = new TextLayout(gc.getDevice());
+                item.getParent().addListener(SWT.Dispose, e -> measureLayout.dispose());
+            }
+            textHeight = TextMetricsCache.get(gc).getWrappedText(measureLayout, gc.getFont(), text, SWT.LEFT,
+                    textWidth < 1 ? 1 : textWidth).height;
+        }
+
         if( image != null ) {
-        	y += Math.max(gc.getFontMetrics().getHeight(),image.getBounds().height);
+        	y += Math.max(textHeight,image.getBounds().height);
         } else {
-        	y += gc.getFontMetrics().getHeight();
+        	y += textHeight;
         }
 
 
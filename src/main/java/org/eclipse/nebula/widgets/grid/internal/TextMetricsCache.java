@@ -0,0 +1,418 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Raden Solutions and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Raden Solutions - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid.internal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.TextLayout;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Cache of text measurements shared by the renderers of a display. String
+ * extents and shortened strings (see
+ * {@link TextUtils#getShortStr(GC, String, int, int)}) are kept per font of the
+ * GC in maps with least recently used eviction, and the widths of Latin-1
+ * characters are kept in a table per font. All of them are otherwise native
+ * calls repeated for every cell on every repaint. The heights of word wrapped
+ * texts are kept the same way, so a text is laid out again only when its font,
+ * content, alignment or wrap width changes.
+ * <p>
+ * A font found disposed on lookup has its entries dropped, so a new font
+ * getting the native handle of a disposed one is measured again. The cache is
+ * not thread safe, like the display it belongs to it must only be used from
+ * the UI thread.
+ */
+public class TextMetricsCache {
+
+	/**
+	 * Default maximum number of entries of each kind kept.
+	 */
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	/**
+	 * Maximum number of fonts whose char widths are kept.
+	 */
+	private static final int MAX_FONTS = 64;
+
+	private static final String DATA_KEY = TextMetricsCache.class.getName();
+
+	/** the last device other than a display and its cache */
+	private static Device otherDevice;
+	private static TextMetricsCache otherCache;
+
+	/**
+	 * Characters with an index below this are kept in the char width tables.
+	 */
+	private static final int CHAR_TABLE_SIZE = 256;
+
+	/**
+	 * A font as seen by the cache. Entries of the maps refer to the font by
+	 * the id, which is never reused, so the entries of a dropped font can not
+	 * be found any more and are evicted over time.
+	 */
+	private static final class FontEntry {
+		final Font font;
+		final int id;
+		final int[] charWidths = new int[CHAR_TABLE_SIZE];
+
+		FontEntry(Font font, int id) {
+			this.font = font;
+			this.id = id;
+			Arrays.fill(charWidths, -1);
+		}
+	}
+
+	/**
+	 * Key of a measurement. Lookups use the mutable probe of the cache, only a
+	 * measurement being added gets a key of its own.
+	 */
+	private static final class Key {
+		int font;
+		String text;
+		int width;
+		int style;
+		int hash;
+
+		Key set(int font, String text, int width, int style) {
+			this.font = font;
+			this.text = text;
+			this.width = width;
+			this.style = style;
+			this.hash = ((font * 31 + text.hashCode()) * 31 + width) * 31 + style;
+			return this;
+		}
+
+		Key copy() {
+			return new Key().set(font, text, width, style);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && font == other.font && width == other.width && style == other.style
+					&& text.equals(other.text);
+		}
+	}
+
+	/**
+	 * Heights of a word wrapped text.
+	 */
+	public static final class WrappedText {
+		/**
+		 * Height of the bounds of the laid out text.
+		 */
+		public final int height;
+
+		/**
+		 * Sum of the heights of all lines.
+		 */
+		public final int linesHeight;
+
+		/**
+		 * Number of lines.
+		 */
+		public final int lineCount;
+
+		WrappedText(int height, int linesHeight, int lineCount) {
+			this.height = height;
+			this.linesHeight = linesHeight;
+			this.lineCount = lineCount;
+		}
+	}
+
+	private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+		private int capacity;
+
+		LruMap(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > capacity;
+		}
+	}
+
+	private final LruMap<Key, Point> extents;
+	private final LruMap<Key, String> shortStrings;
+	private final LruMap<Key, WrappedText> wrappedTexts;
+	private final LruMap<Font, FontEntry> fonts = new LruMap<>(MAX_FONTS);
+	private final Key probe = new Key();
+	private int nextFontId;
+	private long hits;
+	private long misses;
+
+	/**
+	 * Returns the cache shared by the renderers painting on the device of the
+	 * given GC.
+	 *
+	 * @param gc
+	 *            GC to measure with
+	 * @return cache of the device
+	 * @see #get(Device)
+	 */
+	public static TextMetricsCache get(GC gc) {
+		return get(gc.getDevice());
+	}
+
+	/**
+	 * Returns the cache shared by the renderers painting on the given device.
+	 * Each display has its own cache, which is created on first use. Other
+	 * devices, e.g. printers, share a cache which is replaced whenever another
+	 * such device asks for it.
+	 *
+	 * @param device
+	 *            device to measure on
+	 * @return cache of the device
+	 */
+	public static TextMetricsCache get(Device device) {
+		if (!(device instanceof Display)) {
+			if (otherDevice != device) {
+				otherDevice = device;
+				otherCache = new TextMetricsCache(DEFAULT_CAPACITY);
+			}
+			return otherCache;
+		}
+		Display display = (Display) device;
+		TextMetricsCache cache = (TextMetricsCache) display.getData(DATA_KEY);
+		if (cache == null) {
+			cache = new TextMetricsCache(DEFAULT_CAPACITY);
+			display.setData(DATA_KEY, cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * @return the entry of the given font, a new one if the font is new or the
+	 *         font of the entry was disposed and its handle reused
+	 */
+	private FontEntry getFont(Font font) {
+		FontEntry entry = fonts.get(font);
+		if (entry == null || entry.font.isDisposed()) {
+			entry = new FontEntry(font, nextFontId++);
+			fonts.put(font, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Creates a cache keeping at most the given number of string extents,
+	 * shortened strings and wrapped texts each.
+	 *
+	 * @param capacity
+	 *            maximum number of entries
+	 */
+	public TextMetricsCache(int capacity) {
+		extents = new LruMap<>(Math.max(capacity, 1));
+		shortStrings = new LruMap<>(Math.max(capacity, 1));
+		wrappedTexts = new LruMap<>(Math.max(capacity, 1));
+	}
+
+	/**
+	 * Returns the extent of the given string using the current font of the GC,
+	 * as {@link GC#stringExtent(String)} does. The returned point is shared and
+	 * must not be modified.
+	 *
+	 * @param gc
+	 *            GC used to measure
+	 * @param text
+	 *            text to measure
+	 * @return extent of the text
+	 */
+	public Point stringExtent(GC gc, String text) {
+		if (text == null) {
+			return gc.stringExtent(text);
+		}
+		Key key = probe.set(getFont(gc.getFont()).id, text, -1, 0);
+		Point extent = extents.get(key);
+		if (extent != null) {
+			hits++;
+			return extent;
+		}
+		misses++;
+		key = key.copy();
+		extent = gc.stringExtent(text);
+		extents.put(key, extent);
+		return extent;
+	}
+
+	/**
+	 * Returns the width of the given character using the current font of the
+	 * GC, as {@link GC#getCharWidth(char)} does.
+	 *
+	 * @param gc
+	 *            GC used to measure
+	 * @param c
+	 *            character to measure
+	 * @return width of the character
+	 */
+	public int getCharWidth(GC gc, char c) {
+		if (c >= CHAR_TABLE_SIZE) {
+			return gc.getCharWidth(c);
+		}
+		int[] table = getFont(gc.getFont()).charWidths;
+		if (table[c] == -1) {
+			table[c] = gc.getCharWidth(c);
+		}
+		return table[c];
+	}
+
+	/**
+	 * Shortens a supplied string so that it fits within the area specified by
+	 * the width argument, see {@link TextUtils#getShortStr(GC, String, int, int)}.
+	 *
+	 * @param gc
+	 *            GC used to perform calculation.
+	 * @param text
+	 *            text to modify.
+	 * @param width
+	 *            Pixels to display.
+	 * @param style
+	 *            truncation style
+	 * @return shortened string that fits in area specified.
+	 */
+	public String getShortStr(GC gc, String text, int width, int style) {
+		if (text == null || text.equals("")) {
+			return text;
+		}
+		Key key = probe.set(getFont(gc.getFont()).id, text, width, style);
+		String shortStr = shortStrings.get(key);
+		if (shortStr != null) {
+			hits++;
+			return shortStr;
+		}
+		misses++;
+		// computing the short string measures with the probe
+		key = key.copy();
+		shortStr = TextUtils.computeShortStr(this, gc, text, width, style);
+		shortStrings.put(key, shortStr);
+		return shortStr;
+	}
+
+	/**
+	 * Returns the heights of the given text wrapped to the given width. On a
+	 * cache miss the text is laid out with the given layout, whose font, text,
+	 * alignment and width are changed.
+	 *
+	 * @param layout
+	 *            layout used to measure
+	 * @param font
+	 *            font of the text
+	 * @param text
+	 *            text to measure
+	 * @param alignment
+	 *            alignment of the text, see {@link TextLayout#setAlignment(int)}
+	 * @param width
+	 *            wrap width
+	 * @return heights of the wrapped text
+	 */
+	public WrappedText getWrappedText(TextLayout layout, Font font, String text, int alignment,
+			int width) {
+		Key key = text == null || font == null ? null : probe.set(getFont(font).id, text, width, alignment);
+		WrappedText wrapped = key == null ? null : wrappedTexts.get(key);
+		if (wrapped != null) {
+			hits++;
+			return wrapped;
+		}
+		misses++;
+		if (key != null) {
+			key = key.copy();
+		}
+		layout.setFont(font);
+		layout.setText(text);
+		layout.setAlignment(alignment);
+		layout.setWidth(width);
+		int linesHeight = 0;
+		int lineCount = layout.getLineCount();
+		for (int i = 0; i < lineCount; i++) {
+			linesHeight += layout.getLineBounds(i).height;
+		}
+		wrapped = new WrappedText(layout.getBounds().height, linesHeight, lineCount);
+		if (key != null) {
+			wrappedTexts.put(key, wrapped);
+		}
+		return wrapped;
+	}
+
+	/**
+	 * Changes the maximum number of string extents, shortened strings and
+	 * wrapped texts kept, evicting the least recently used entries if
+	 * necessary.
+	 *
+	 * @param capacity
+	 *            maximum number of entries
+	 */
+	public void setCapacity(int capacity) {
+		extents.capacity = Math.max(capacity, 1);
+		shortStrings.capacity = Math.max(capacity, 1);
+		wrappedTexts.capacity = Math.max(capacity, 1);
+		trim(extents);
+		trim(shortStrings);
+		trim(wrappedTexts);
+	}
+
+	private static void trim(LruMap<?, ?> map) {
+		while (map.size() > map.capacity) {
+			map.remove(map.keySet().iterator().next());
+		}
+	}
+
+	/**
+	 * Removes all cached measurements. The counters are kept.
+	 */
+	public void clear() {
+		extents.clear();
+		shortStrings.clear();
+		wrappedTexts.clear();
+		fonts.clear();
+	}
+
+	/**
+	 * @return number of lookups answered from the cache
+	 */
+	public long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * @return number of lookups which had to be computed
+	 */
+	public long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Resets the hit and miss counters to zero.
+	 */
+	public void resetCounters() {
+		hits = 0;
+		misses = 0;
+	}
+}
@@ -36,7 +36,8 @@ public class TextUtils {
 	 * Shortens a supplied string so that it fits within the area specified by the
 	 * width argument. Strings that have been shorted have an "..." attached to the
 	 * end of the string. The width is computed using the
-	 * {@link GC#getCharWidth(char)}.
+	 * {@link GC#getCharWidth(char)}. Results are cached, see
+	 * {@link TextMetricsCache#get(GC)}.
 	 *
 	 * @param gc
 	 *            GC used to perform calculation.
@@ -50,33 +51,42 @@ public class TextUtils {
 	 * @return shortened string that fits in area specified.
 	 */
 	public static String getShortStr(GC gc, String text, int width, int style) {
+		return TextMetricsCache.get(gc).getShortStr(gc, text, width, style);
+	}
+
+	/**
+	 * Shortens a supplied string, taking the measurements from the given cache.
+	 *
+	 * @see #getShortStr(GC, String, int, int)
+	 */
+	static String computeShortStr(TextMetricsCache cache, GC gc, String text, int width, int style) {
 		if (text == null || text.equals("")) {
 			return text;
 		}
 
-		if (width >= gc.stringExtent(text).x) {
+		if (width >= cache.stringExtent(gc, text).x) {
 			return text;
 		}
 
 		switch (style) {
 		case SWT.LEFT:
-			return getShortStringTruncatedInTheBeginning(gc, text, width);
+			return getShortStringTruncatedInTheBeginning(cache, gc, text, width);
 		case SWT.RIGHT:
-			return getShortStringTruncatedInTheEnd(gc, text, width);
+			return getShortStringTruncatedInTheEnd(cache, gc, text, width);
 		case SWT.CENTER:
-			return getShortStringTruncatedInTheMiddle(gc, text, width);
+			return getShortStringTruncatedInTheMiddle(cache, gc, text, width);
 		default:
 			return text;
 		}
 
 	}
 
-	private static String getShortStringTruncatedInTheBeginning(GC gc, String text, int width) {
+	private static String getShortStringTruncatedInTheBeginning(TextMetricsCache cache, GC gc, String text, int width) {
 		char[] chars = text.toCharArray();
-		int calcWidth = gc.stringExtent("...").x;
+		int calcWidth = cache.stringExtent(gc, "...").x;
 		int index = chars.length - 1;
 		while (calcWidth < width && index >= 0) {
-			int step = gc.getCharWidth(chars[index]);
+			int step = cache.getCharWidth(gc, chars[index]);
 			calcWidth += step;
 			if (calcWidth >= width) {
 				break;
@@ -91,13 +101,13 @@ public class TextUtils {
 		return sb.toString();
 	}
 
-	private static String getShortStringTruncatedInTheEnd(GC gc, String text, int width) {
+	private static String getShortStringTruncatedInTheEnd(TextMetricsCache cache, GC gc, String text, int width) {
 		char[] chars = text.toCharArray();
-		int calcWidth = gc.stringExtent("...").x;
+		int calcWidth = cache.stringExtent(gc, "...").x;
 		int index = 0;
 		int length = chars.length;
 		while (calcWidth < width && index < length) {
-			int step = gc.getCharWidth(chars[index]);
+			int step = cache.getCharWidth(gc, chars[index]);
 			calcWidth += step;
 			if (calcWidth >= width) {
 				break;
@@ -117,22 +127,22 @@ public class TextUtils {
 		return sb.toString();
 	}
 
-	private static String getShortStringTruncatedInTheMiddle(GC gc, String text, int width) {
+	private static String getShortStringTruncatedInTheMiddle(TextMetricsCache cache, GC gc, String text, int width) {
 		char[] chars = text.toCharArray();
 		int length = chars.length;
 		int left = 0;
 		int right = length - 1;
-		int calcWidth = gc.stringExtent("...").x;
+		int calcWidth = cache.stringExtent(gc, "...").x;
 
 		while (left < right) {
-			int step = gc.getCharWidth(chars[left]);
+			int step = cache.getCharWidth(gc, chars[left]);
 			calcWidth += step;
 			if (calcWidth >= width) {
 				break;
 			}
 			left++;
 
-			step = gc.getCharWidth(chars[right]);
+			step = cache.getCharWidth(gc, chars[right]);
 			calcWidth += step;
 			if (calcWidth >= width) {
 				break;
@@ -3,6 +3,7 @@ package org.eclipse.nebula.widgets.grid.internal.win7;
 import org.eclipse.nebula.widgets.grid.GridColumn;
 import org.eclipse.nebula.widgets.grid.internal.DefaultColumnHeaderRenderer;
 import org.eclipse.nebula.widgets.grid.internal.SortArrowRenderer;
+import org.eclipse.nebula.widgets.grid.internal.TextMetricsCache;
 import org.eclipse.nebula.widgets.grid.internal.TextUtils;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
@@ -108,12 +109,12 @@ public class Win7GridColumnHeaderRenderer extends DefaultColumnHeaderRenderer {
         }
 
         if (column.getAlignment() == SWT.RIGHT) {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width) {
                 x += width - len;
             }
         } else if (column.getAlignment() == SWT.CENTER) {
-            int len = gc.stringExtent(text).x;
+            int len = TextMetricsCache.get(gc).stringExtent(gc, text).x;
             if (len < width) {
                 x += (width - len) / 2;
             }